@@ -0,0 +1,24 @@
+package com.testcontainers.catalog;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+public final class BenchmarkProperties {
+
+    private BenchmarkProperties() {}
+
+    // binds like the application does, so every nested default applies
+    public static ApplicationProperties applicationProperties(Map<String, String> overrides) {
+        MapConfigurationPropertySource source = new MapConfigurationPropertySource(Map.of(
+                "application.product-images-bucket-name", "product-images",
+                "application.product-image-updates-topic", "product-image-updates",
+                "application.inventory-service-url", "http://localhost:8081"));
+        source.putAll(overrides);
+        return new Binder(source).bindOrCreate("application", ApplicationProperties.class);
+    }
+
+    public static ApplicationProperties applicationProperties() {
+        return applicationProperties(Map.of());
+    }
+}
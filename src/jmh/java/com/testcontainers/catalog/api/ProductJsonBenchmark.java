@@ -0,0 +1,62 @@
+package com.testcontainers.catalog.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testcontainers.catalog.domain.models.Product;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductJsonBenchmark {
+
+    @Param({"1", "100", "1000"})
+    int size;
+
+    private ObjectMapper objectMapper;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        products = IntStream.range(0, size)
+                .mapToObj(i -> new Product(
+                        (long) i,
+                        "P" + i,
+                        "Product " + i,
+                        "Product " + i + " description",
+                        "http://localhost:4566/product-images/P" + i + ".jpg",
+                        BigDecimal.valueOf(10 + i),
+                        i % 3 != 0,
+                        Map.of(
+                                "160", "http://localhost:4566/product-images/variants/160/P" + i + ".jpg",
+                                "640", "http://localhost:4566/product-images/variants/640/P" + i + ".jpg"),
+                        "P" + i + ".jpg",
+                        i))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] writeProducts() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(products);
+    }
+}
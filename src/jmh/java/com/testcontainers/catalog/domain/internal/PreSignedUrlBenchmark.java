@@ -0,0 +1,103 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.BenchmarkProperties;
+import com.testcontainers.catalog.metrics.DependencyMetrics;
+import io.awspring.cloud.s3.InMemoryBufferingS3OutputStreamProvider;
+import io.awspring.cloud.s3.Jackson2JsonS3ObjectConverter;
+import io.awspring.cloud.s3.PropertiesS3ObjectContentTypeResolver;
+import io.awspring.cloud.s3.S3Template;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+// signing is local to the SDK, the endpoint is never contacted
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PreSignedUrlBenchmark {
+    private static final URI ENDPOINT = URI.create("http://localhost:4566");
+    private static final StaticCredentialsProvider CREDENTIALS =
+            StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test"));
+
+    private S3Client s3Client;
+    private S3Presigner s3Presigner;
+    private S3Template s3Template;
+    private S3FileStorageService storageService;
+    private String[] filenames;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        s3Client = S3Client.builder()
+                .region(Region.US_EAST_1)
+                .credentialsProvider(CREDENTIALS)
+                .endpointOverride(ENDPOINT)
+                .build();
+        s3Presigner = S3Presigner.builder()
+                .region(Region.US_EAST_1)
+                .credentialsProvider(CREDENTIALS)
+                .endpointOverride(ENDPOINT)
+                .build();
+        s3Template = new S3Template(
+                s3Client,
+                new InMemoryBufferingS3OutputStreamProvider(s3Client, null),
+                new Jackson2JsonS3ObjectConverter(new ObjectMapper()),
+                s3Presigner);
+        ApplicationProperties properties = BenchmarkProperties.applicationProperties();
+        storageService = new S3FileStorageService(
+                s3Template,
+                s3Client,
+                new MultipartS3OutputStreamProvider(
+                        s3Client,
+                        new PropertiesS3ObjectContentTypeResolver(),
+                        MultipartS3OutputStreamProvider.MIN_PART_SIZE),
+                properties,
+                new DependencyMetrics(new SimpleMeterRegistry()));
+        filenames = IntStream.range(0, 1000).mapToObj(i -> "P" + i + ".jpg").toArray(String[]::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3Presigner.close();
+        s3Client.close();
+    }
+
+    @Benchmark
+    public URL signUrl() {
+        return s3Template.createSignedGetURL("product-images", nextFilename(), Duration.ofHours(1));
+    }
+
+    @Benchmark
+    public String cachedPreSignedUrl() {
+        return storageService.getPreSignedURL(nextFilename());
+    }
+
+    private String nextFilename() {
+        next = (next + 1) % filenames.length;
+        return filenames[next];
+    }
+}
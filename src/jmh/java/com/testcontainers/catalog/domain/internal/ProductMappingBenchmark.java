@@ -0,0 +1,147 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.BenchmarkProperties;
+import com.testcontainers.catalog.clients.inventory.InventoryServiceClient;
+import com.testcontainers.catalog.clients.inventory.ProductInventory;
+import com.testcontainers.catalog.domain.FileStorageService;
+import com.testcontainers.catalog.domain.models.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductMappingBenchmark {
+
+    @Param({"1", "100", "1000"})
+    int size;
+
+    private ProductAvailabilityService availabilityService;
+    private ImageVariantService imageVariantService;
+    private DefaultProductService productService;
+    private List<ProductView> products;
+
+    @Setup
+    public void setUp() {
+        ApplicationProperties properties = BenchmarkProperties.applicationProperties();
+        availabilityService = new ProductAvailabilityService(
+                new InMemoryInventoryServiceClient(), properties, new SimpleMeterRegistry());
+        FileStorageService fileStorageService = new InMemoryFileStorageService();
+        imageVariantService = new ImageVariantService(
+                fileStorageService, inMemoryImageVariantsRepository(), properties, new SimpleMeterRegistry());
+        productService = new DefaultProductService(
+                null,
+                null,
+                availabilityService,
+                fileStorageService,
+                null,
+                null,
+                imageVariantService,
+                null,
+                properties,
+                null);
+        products = IntStream.range(0, size)
+                .mapToObj(i -> new ProductView(
+                        (long) i,
+                        "P" + i,
+                        "Product " + i,
+                        "Product " + i + " description",
+                        i % 2 == 0 ? "P" + i + ".jpg" : null,
+                        BigDecimal.valueOf(10 + i),
+                        i))
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        availabilityService.shutdown();
+        imageVariantService.shutdown();
+    }
+
+    @Benchmark
+    public List<Product> toProducts() {
+        return productService.toProducts(products);
+    }
+
+    static class InMemoryInventoryServiceClient implements InventoryServiceClient {
+
+        @Override
+        public ProductInventory getInventory(String code) {
+            return new ProductInventory(code, 10);
+        }
+
+        @Override
+        public List<ProductInventory> getInventories(List<String> codes) {
+            return codes.stream().map(this::getInventory).toList();
+        }
+    }
+
+    // every image has its variants recorded, so a cold run reads them in a single lookup
+    static ImageVariantsRepository inMemoryImageVariantsRepository() {
+        return (ImageVariantsRepository) Proxy.newProxyInstance(
+                ImageVariantsRepository.class.getClassLoader(),
+                new Class<?>[] {ImageVariantsRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findAllById")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    List<ImageVariantsEntity> records = new ArrayList<>();
+                    for (Object image : (Iterable<?>) args[0]) {
+                        records.add(new ImageVariantsEntity((String) image, List.of(160, 640)));
+                    }
+                    return records;
+                });
+    }
+
+    static class InMemoryFileStorageService implements FileStorageService {
+
+        @Override
+        public void createBucket(String bucketName) {}
+
+        @Override
+        public void upload(String filename, InputStream inputStream) {}
+
+        @Override
+        public boolean exists(String filename) {
+            return false;
+        }
+
+        @Override
+        public void copy(String sourceFilename, String targetFilename) {}
+
+        @Override
+        public InputStream download(String filename) {
+            return InputStream.nullInputStream();
+        }
+
+        @Override
+        public void delete(String filename) {}
+
+        @Override
+        public String getPreSignedURL(String filename) {
+            return "http://localhost:4566/product-images/" + filename;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.testcontainers.catalog.domain.internal.ProductSearchRepository.ProductSearchHit;
+import com.testcontainers.catalog.domain.models.ProductSearchCriteria;
+import com.testcontainers.catalog.domain.models.ProductSearchCursor;
+import com.zaxxer.hikari.HikariDataSource;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+// runs against a real Postgres container seeded with generated products, needs Docker
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProductSearchBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000000"})
+    int rows;
+
+    // of a million rows a brand matches 200, "oak lamp" 10,000 and "lamp" 100,000;
+    // the broad terms show the cost of ranking every match before the first page is returned
+    @Param({"brand42", "lamp", "oak lamp"})
+    String query;
+
+    private PostgreSQLContainer<?> postgres;
+    private HikariDataSource dataSource;
+    private ProductSearchRepositoryImpl repository;
+    private ProductSearchCriteria textOnly;
+    private ProductSearchCriteria textAndPrice;
+    private ProductSearchCursor secondPage;
+
+    @Setup
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:17.5-alpine"));
+        postgres.start();
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        seed(jdbcTemplate);
+        repository = new ProductSearchRepositoryImpl(jdbcTemplate);
+        textOnly = new ProductSearchCriteria(query, null, null, null);
+        textAndPrice = new ProductSearchCriteria(query, new BigDecimal("100"), new BigDecimal("250"), null);
+        secondPage = repository.searchProducts(textOnly, null, PAGE_SIZE).getLast().cursor();
+    }
+
+    // the index is built once after loading, which is much faster than maintaining it row by row
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("drop index products_search_vector_idx");
+        jdbcTemplate.update(
+                """
+                insert into products(code, name, description, price)
+                select 'B' || i,
+                       (array['oak', 'steel', 'linen', 'wool', 'glass', 'walnut', 'cotton', 'copper', 'marble',
+                              'leather'])[1 + i % 10]
+                           || ' ' || (array['lamp', 'chair', 'table', 'shirt', 'mug', 'rug', 'vase', 'desk', 'sofa',
+                                            'shelf'])[1 + (i / 10) % 10]
+                           || ' ' || (array['classic', 'modern', 'rustic', 'compact', 'deluxe'])[1 + (i / 100) % 5]
+                           || ' ' || (i / 500),
+                       'Designed by brand' || (i % 5000) || ' in the '
+                           || (array['north', 'south', 'east', 'west'])[1 + (i / 7) % 4] || ' workshop',
+                       round(1 + (i::bigint * 7919 % 50000) / 100.0, 2)
+                from generate_series(1, ?) i
+                """,
+                rows);
+        jdbcTemplate.execute("create index products_search_vector_idx on products using gin (search_vector)");
+        jdbcTemplate.execute("vacuum analyze products");
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<ProductSearchHit> firstPage() {
+        return repository.searchProducts(textOnly, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<ProductSearchHit> nextPage() {
+        return repository.searchProducts(textOnly, secondPage, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<ProductSearchHit> firstPageInPriceRange() {
+        return repository.searchProducts(textAndPrice, null, PAGE_SIZE);
+    }
+}
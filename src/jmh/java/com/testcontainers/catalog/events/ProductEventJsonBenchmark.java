@@ -0,0 +1,57 @@
+package com.testcontainers.catalog.events;
+
+import com.testcontainers.catalog.domain.models.ProductImageUploadedEvent;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+// same (de)serializers the producer and listener are configured with
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductEventJsonBenchmark {
+    private static final String TOPIC = "product-image-updates";
+
+    private JsonSerializer<ProductImageUploadedEvent> serializer;
+    private JsonDeserializer<ProductImageUploadedEvent> deserializer;
+    private ProductImageUploadedEvent event;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        serializer = new JsonSerializer<>();
+        deserializer = new JsonDeserializer<>(ProductImageUploadedEvent.class, false);
+        event = new ProductImageUploadedEvent("P101", "P101-3f2a9c.jpg");
+        payload = serializer.serialize(TOPIC, event);
+    }
+
+    @TearDown
+    public void tearDown() {
+        serializer.close();
+        deserializer.close();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public ProductImageUploadedEvent deserialize() {
+        return deserializer.deserialize(TOPIC, payload);
+    }
+}
@@ -1,7 +1,16 @@
 package com.testcontainers.catalog;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 @ConfigurationProperties(prefix = "application")
@@ -9,4 +18,139 @@ import org.springframework.validation.annotation.Validated;
 public record ApplicationProperties(
         @NotEmpty String productImagesBucketName,
         @NotEmpty String productImageUpdatesTopic,
-        @NotEmpty String inventoryServiceUrl) {}
+        @NotEmpty String inventoryServiceUrl,
+        @Valid @DefaultValue Inventory inventory,
+        @Valid @DefaultValue Storage storage,
+        @Valid @DefaultValue Listing listing,
+        @Valid @DefaultValue Search search,
+        @Valid @DefaultValue ProductCache productCache,
+        @Valid @DefaultValue Events events,
+        @Valid @DefaultValue Outbox outbox,
+        @Valid @DefaultValue RemoteImages remoteImages,
+        @Valid @DefaultValue ImageIngestion imageIngestion,
+        @Valid @DefaultValue ImageVariants imageVariants,
+        @Valid @DefaultValue ImageUploads imageUploads,
+        @Valid @DefaultValue Bulk bulk,
+        @Valid @DefaultValue Metrics metrics) {
+
+    public record Inventory(
+            @Positive @DefaultValue("50") int batchSize,
+            @NotNull @DefaultValue("BATCH") LookupMode lookupMode,
+            @Positive @DefaultValue("16") int maxConcurrency,
+            @NotNull @DefaultValue("2s") Duration timeout,
+            @Valid @DefaultValue Http http,
+            @Valid @DefaultValue Cache cache,
+            @Valid @DefaultValue CircuitBreaker circuitBreaker,
+            @Valid @DefaultValue Bulkhead bulkhead) {
+
+        public enum LookupMode {
+            BATCH,
+            CONCURRENT
+        }
+
+        public record Http(
+                @NotNull @DefaultValue("1s") Duration connectTimeout,
+                @NotNull @DefaultValue("2s") Duration readTimeout,
+                @NotNull @DefaultValue("500ms") Duration connectionRequestTimeout,
+                @Positive @DefaultValue("100") int maxConnections,
+                @Positive @DefaultValue("50") int maxConnectionsPerRoute,
+                @NotNull @DefaultValue("30s") Duration keepAlive,
+                @NotNull @DefaultValue("5m") Duration connectionTimeToLive,
+                @NotNull @DefaultValue("2s") Duration validateAfterInactivity) {}
+
+        public record Cache(
+                @DefaultValue("true") boolean enabled,
+                @Positive @DefaultValue("10000") long maximumSize,
+                @NotNull @DefaultValue("5m") Duration ttl,
+                @NotNull @DefaultValue("30s") Duration refreshAfter,
+                @NotNull @DefaultValue("5s") Duration failureTtl) {}
+
+        public record CircuitBreaker(
+                @DefaultValue("true") boolean enabled,
+                @Positive @DefaultValue("50") float failureRateThreshold,
+                @Positive @DefaultValue("50") float slowCallRateThreshold,
+                @NotNull @DefaultValue("500ms") Duration slowCallDurationThreshold,
+                @Positive @DefaultValue("50") int slidingWindowSize,
+                @Positive @DefaultValue("20") int minimumNumberOfCalls,
+                @NotNull @DefaultValue("10s") Duration waitDurationInOpenState,
+                @Positive @DefaultValue("5") int permittedCallsInHalfOpenState) {}
+
+        public record Bulkhead(
+                @Positive @DefaultValue("32") int maxConcurrentCalls,
+                @NotNull @DefaultValue("0ms") Duration maxWaitDuration) {}
+    }
+
+    public record Storage(
+            @NotNull @DefaultValue("60m") Duration signedUrlTtl,
+            @NotNull @DefaultValue("15m") Duration signedUrlRefreshBeforeExpiry,
+            @NotNull @DefaultValue("5m") Duration signedUrlMinValidity,
+            @Positive @DefaultValue("10000") long signedUrlCacheMaximumSize,
+            @NotNull @DefaultValue("8MB") DataSize multipartPartSize,
+            @NotNull @DefaultValue("50MB") DataSize maxImageSize) {
+
+        // a URL is re-signed after ttl - refreshBeforeExpiry and evicted after ttl - minValidity
+        @AssertTrue(
+                message = "signed-url-refresh-before-expiry must be shorter than signed-url-ttl "
+                        + "and longer than signed-url-min-validity")
+        public boolean isSignedUrlRefreshValid() {
+            return signedUrlTtl == null
+                    || signedUrlRefreshBeforeExpiry == null
+                    || signedUrlMinValidity == null
+                    || (signedUrlRefreshBeforeExpiry.compareTo(signedUrlTtl) < 0
+                            && signedUrlRefreshBeforeExpiry.compareTo(signedUrlMinValidity) > 0);
+        }
+    }
+
+    public record Listing(
+            @Positive @DefaultValue("100") int defaultPageSize,
+            @Positive @DefaultValue("1000") int maxPageSize,
+            @Positive @DefaultValue("500") int streamChunkSize) {}
+
+    public record Search(@Positive @DefaultValue("5000") int maxScannedRows) {}
+
+    public record ProductCache(
+            @DefaultValue("true") boolean enabled,
+            @Positive @DefaultValue("10000") long maximumSize,
+            @NotNull @DefaultValue("10m") Duration ttl,
+            @NotEmpty @DefaultValue("product-cache-invalidations") String invalidationsTopic) {}
+
+    public record Events(
+            @DefaultValue("false") boolean awaitAcknowledgement,
+            @NotNull @DefaultValue("10s") Duration sendTimeout) {}
+
+    public record Outbox(
+            @DefaultValue("true") boolean enabled,
+            @Positive @DefaultValue("100") int batchSize,
+            @NotNull @DefaultValue("1s") Duration pollInterval,
+            @NotNull @DefaultValue("30s") Duration leaseDuration) {}
+
+    public record RemoteImages(
+            @NotNull @DefaultValue("5s") Duration connectTimeout,
+            @NotNull @DefaultValue("30s") Duration requestTimeout,
+            @NotNull @DefaultValue("90s") Duration fetchTimeout,
+            @NotNull @DefaultValue("10MB") DataSize maxSize) {}
+
+    public record ImageIngestion(
+            @Positive @DefaultValue("8") int maxConcurrency,
+            @Positive @DefaultValue("100") int queueCapacity,
+            @NotNull @DefaultValue("2m") Duration jobTimeout,
+            @NotNull @DefaultValue("1h") Duration jobRetention,
+            @NotNull @DefaultValue("10m") Duration cleanupInterval) {}
+
+    public record ImageVariants(
+            @NotEmpty @DefaultValue({"160", "640"}) List<@Positive Integer> widths,
+            @Positive @DecimalMax("1.0") @DefaultValue("0.8") float jpegQuality,
+            @Positive @DefaultValue("4") int maxConcurrency,
+            @Positive @DefaultValue("100") int queueCapacity,
+            @NotNull @DefaultValue("30s") Duration timeout,
+            @Positive @DefaultValue("10000") long storedCacheMaximumSize,
+            @NotNull @DefaultValue("1h") Duration storedCacheTtl) {}
+
+    public record ImageUploads(
+            @NotNull @DefaultValue("24h") Duration idempotencyKeyRetention,
+            @NotNull @DefaultValue("1h") Duration cleanupInterval) {}
+
+    public record Bulk(@Positive @DefaultValue("1000") int batchSize) {}
+
+    public record Metrics(@NotNull @DefaultValue("1s") Duration slowRequestThreshold) {}
+}
@@ -1,23 +1,87 @@
 package com.testcontainers.catalog.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testcontainers.catalog.ApplicationProperties;
 import com.testcontainers.catalog.domain.ProductService;
 import com.testcontainers.catalog.domain.models.Product;
+import java.net.URI;
 import java.util.List;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 public class DataController {
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
 
     private final ProductService productService;
+    private final ApplicationProperties properties;
+    private final ObjectMapper objectMapper;
 
-    DataController(ProductService productService) {
+    DataController(ProductService productService, ApplicationProperties properties, ObjectMapper objectMapper) {
         this.productService = productService;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/api/data")
-    public List<Product> getData() {
-        // Fetch data from Kafka or Postgres and return it
-        return productService.getAllProducts();
+    public ResponseEntity<List<Product>> getData(
+            @RequestParam(value = "after", defaultValue = "0") long after,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            WebRequest request) {
+        // read before the page, so a write in between changes the next ETag rather than being hidden by this one
+        long productsVersion = productService.getProductsVersion();
+        int pageSize = pageSize(limit);
+        List<Product> products = productService.getProducts(after, pageSize);
+        // sets the ETag header; a matching If-None-Match is answered with 304 and no body
+        if (request.checkNotModified(ProductETags.ofList(productsVersion, products))) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        if (products.size() == pageSize) {
+            URI next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", products.getLast().id())
+                    .replaceQueryParam("limit", pageSize)
+                    .build()
+                    .toUri();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(products);
+    }
+
+    @GetMapping("/api/data/stream")
+    public ResponseEntity<StreamingResponseBody> streamData(
+            @RequestParam(value = "after", defaultValue = "0") long after) {
+        int chunkSize = properties.listing().streamChunkSize();
+        StreamingResponseBody body = outputStream -> {
+            long cursor = after;
+            List<Product> chunk;
+            do {
+                chunk = productService.getProducts(cursor, chunkSize);
+                for (Product product : chunk) {
+                    outputStream.write(objectMapper.writeValueAsBytes(product));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+                if (!chunk.isEmpty()) {
+                    cursor = chunk.getLast().id();
+                }
+            } while (chunk.size() == chunkSize);
+        };
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
+    private int pageSize(Integer limit) {
+        if (limit == null) {
+            return properties.listing().defaultPageSize();
+        }
+        return Math.max(1, Math.min(limit, properties.listing().maxPageSize()));
     }
 }
@@ -0,0 +1,134 @@
+package com.testcontainers.catalog.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.domain.ProductService;
+import com.testcontainers.catalog.domain.models.BulkProductResult;
+import com.testcontainers.catalog.domain.models.BulkProductResult.ItemError;
+import com.testcontainers.catalog.domain.models.CreateProductRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/products")
+class ProductBulkController {
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private final ProductService productService;
+    private final ApplicationProperties properties;
+    private final ObjectMapper objectMapper;
+
+    ProductBulkController(ProductService productService, ApplicationProperties properties, ObjectMapper objectMapper) {
+        this.productService = productService;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    // accepts a JSON array or NDJSON, items are read one by one and upserted in batches
+    @PostMapping(
+            value = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON_VALUE})
+    ResponseEntity<BulkProductResult> createProducts(
+            @RequestParam(value = "updateExisting", defaultValue = "false") boolean updateExisting,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body)
+            throws IOException {
+        BulkImport bulkImport = new BulkImport(updateExisting);
+        if (MediaType.parseMediaType(NDJSON_VALUE).isCompatibleWith(contentType)) {
+            readNdjson(body, bulkImport);
+        } else {
+            readJsonArray(body, bulkImport);
+        }
+        return ResponseEntity.ok(bulkImport.finish());
+    }
+
+    // every line is an item of its own, a line that cannot be read is reported and the next one is read
+    private void readNdjson(InputStream body, BulkImport bulkImport) throws IOException {
+        BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        while ((line = lines.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                bulkImport.add(objectMapper.readValue(line, CreateProductRequest.class));
+            } catch (JsonProcessingException e) {
+                bulkImport.reject(e.getOriginalMessage());
+            }
+        }
+    }
+
+    // a well-formed item that does not map to a product is reported and skipped, after a syntax error the item
+    // boundaries are lost, so everything before it is still written and the rest of the input is ignored
+    private void readJsonArray(InputStream body, BulkImport bulkImport) throws IOException {
+        try (MappingIterator<JsonNode> items = objectMapper.readerFor(JsonNode.class).readValues(body)) {
+            while (items.hasNextValue()) {
+                JsonNode item = items.nextValue();
+                try {
+                    bulkImport.add(objectMapper.treeToValue(item, CreateProductRequest.class));
+                } catch (JsonProcessingException e) {
+                    bulkImport.reject(e.getOriginalMessage());
+                }
+            }
+        } catch (JsonProcessingException e) {
+            bulkImport.reject(e.getOriginalMessage());
+        }
+    }
+
+    // a rejected item ends the current batch, so every batch covers consecutive item indexes
+    private final class BulkImport {
+        private final boolean updateExisting;
+        private final int batchSize = properties.bulk().batchSize();
+        private BulkProductResult result = BulkProductResult.empty();
+        private List<CreateProductRequest> batch = new ArrayList<>(batchSize);
+        private int firstIndex;
+
+        BulkImport(boolean updateExisting) {
+            this.updateExisting = updateExisting;
+        }
+
+        void add(CreateProductRequest request) {
+            batch.add(request);
+            if (batch.size() == batchSize) {
+                flush();
+            }
+        }
+
+        void reject(String message) {
+            int index = firstIndex + batch.size();
+            flush();
+            result = result.plus(new BulkProductResult(0, 0, 0, List.of(new ItemError(index, null, message))));
+            firstIndex = index + 1;
+        }
+
+        BulkProductResult finish() {
+            flush();
+            return result;
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            result = result.plus(productService.createProducts(batch, firstIndex, updateExisting));
+            firstIndex += batch.size();
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+}
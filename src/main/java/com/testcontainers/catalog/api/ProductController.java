@@ -1,26 +1,41 @@
 package com.testcontainers.catalog.api;
 
-import static java.net.http.HttpClient.newHttpClient;
-import static java.net.http.HttpRequest.newBuilder;
-
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.clients.images.RemoteImageFetchException;
+import com.testcontainers.catalog.clients.images.RemoteImageFetcher;
+import com.testcontainers.catalog.domain.ImageIngestionJobService;
 import com.testcontainers.catalog.domain.ProductNotFoundException;
 import com.testcontainers.catalog.domain.ProductService;
 import com.testcontainers.catalog.domain.models.CreateProductRequest;
+import com.testcontainers.catalog.domain.models.ImageIngestionJob;
+import com.testcontainers.catalog.domain.models.ImageUpload;
 import com.testcontainers.catalog.domain.models.Product;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -31,10 +46,26 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 @RequestMapping("/api/products")
 class ProductController {
     private static final String STATUS_KEY = "status";
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    private static final String PREFER = "Prefer";
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final Map<String, String> IMAGE_EXTENSIONS =
+            Map.of("jpeg", ".jpg", "png", ".png", "gif", ".gif", "webp", ".webp");
     private final ProductService productService;
+    private final ApplicationProperties properties;
+    private final RemoteImageFetcher remoteImageFetcher;
+    private final ImageIngestionJobService imageIngestionJobService;
 
-    ProductController(ProductService productService) {
+    ProductController(
+            ProductService productService,
+            ApplicationProperties properties,
+            RemoteImageFetcher remoteImageFetcher,
+            ImageIngestionJobService imageIngestionJobService) {
         this.productService = productService;
+        this.properties = properties;
+        this.remoteImageFetcher = remoteImageFetcher;
+        this.imageIngestionJobService = imageIngestionJobService;
     }
 
     @PostMapping
@@ -51,54 +82,204 @@ class ProductController {
     @GetMapping("/{code}")
     ResponseEntity<Product> getProductByCode(@PathVariable String code) {
         var product = productService.getProductByCode(code).orElseThrow(() -> ProductNotFoundException.withCode(code));
-        return ResponseEntity.ok(product);
+        // a matching If-None-Match is answered with 304 Not Modified by Spring MVC
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(ProductETags.of(product))
+                .body(product);
     }
 
     @PostMapping("/{code}/image")
-    ResponseEntity<Map<String, String>> uploadProductImage(
+    CompletableFuture<? extends ResponseEntity<?>> uploadProductImage(
             @PathVariable String code,
             @RequestParam(value = "file", required = false) MultipartFile file,
-            @RequestParam(value = "imageUrl", required = false) String imageUrl)
-            throws IOException, InterruptedException {
-        String imageName;
-        InputStream inputStream;
+            @RequestParam(value = "imageUrl", required = false) String imageUrl,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestHeader(value = PREFER, required = false) List<String> preferences)
+            throws IOException {
+        if (prefersRespondAsync(preferences)) {
+            return CompletableFuture.completedFuture(uploadProductImageAsync(code, file, imageUrl, idempotencyKey));
+        }
+        return uploadProductImageNow(code, file, imageUrl, idempotencyKey);
+    }
+
+    // Prefer is a comma separated list of preferences, each optionally with a value and parameters (RFC 7240)
+    private static boolean prefersRespondAsync(List<String> preferences) {
+        return preferences != null
+                && preferences.stream()
+                        .flatMap(header -> Arrays.stream(header.split(",")))
+                        .map(preference -> preference.split("[=;]", 2)[0].strip())
+                        .anyMatch(RESPOND_ASYNC::equalsIgnoreCase);
+    }
 
+    private CompletableFuture<ResponseEntity<Map<String, String>>> uploadProductImageNow(
+            String code, MultipartFile file, String imageUrl, String idempotencyKey) throws IOException {
+        if (idempotencyKey != null) {
+            Optional<ImageUpload> previous = productService.getImageUpload(idempotencyKey);
+            if (previous.isPresent()) {
+                return CompletableFuture.completedFuture(replayImageUpload(code, previous.get()));
+            }
+        }
         // Handle image from file upload
         if (file != null) {
             var filename = file.getOriginalFilename();
             var extn = filename.substring(filename.lastIndexOf("."));
-            imageName = code + extn;
-            inputStream = file.getInputStream();
+            String imageName = productService.uploadProductImage(code, code + extn, file.getInputStream());
+            return CompletableFuture.completedFuture(imageUploaded(code, imageName, idempotencyKey));
+        }
+        // Validate imageUrl before using
+        if (!isValidImageUrl(imageUrl)) {
+            return CompletableFuture.completedFuture(invalidImageUrl());
         }
-        // Handle image from URL
-        else {
-            // Validate imageUrl before using
-            if (imageUrl == null || !imageUrl.matches("^https?://.+")) {
-                return ResponseEntity.status(HttpURLConnection.HTTP_BAD_REQUEST)
-                        .body(Map.of(STATUS_KEY, "error", "message", "Invalid imageUrl format"));
+        // Handle image from URL, download and upload run without holding the servlet thread
+        String extn = imageUrl.substring(imageUrl.lastIndexOf('.'));
+        return remoteImageFetcher
+                .fetch(URI.create(imageUrl), image -> {
+                    String imageName = productService.uploadProductImage(code, code + extn, image);
+                    return imageUploaded(code, imageName, idempotencyKey);
+                })
+                .exceptionally(e -> {
+                    if (!isRemoteImageFailure(e)) {
+                        throw e instanceof CompletionException ce ? ce : new CompletionException(e);
+                    }
+                    return ResponseEntity.status(HttpURLConnection.HTTP_BAD_REQUEST)
+                            .body(Map.of(
+                                    STATUS_KEY, "error", "message", "Invalid imageUrl or unable to download image"));
+                });
+    }
+
+    private static boolean isValidImageUrl(String imageUrl) {
+        return imageUrl != null && imageUrl.matches("^https?://.+");
+    }
+
+    private static ResponseEntity<Map<String, String>> invalidImageUrl() {
+        return ResponseEntity.status(HttpURLConnection.HTTP_BAD_REQUEST)
+                .body(Map.of(STATUS_KEY, "error", "message", "Invalid imageUrl format"));
+    }
+
+    // only successful uploads are recorded, a failed request can be retried with the same key
+    private ResponseEntity<Map<String, String>> imageUploaded(String code, String imageName, String idempotencyKey) {
+        recordImageUpload(code, imageName, idempotencyKey);
+        return ResponseEntity.ok(Map.of(STATUS_KEY, "success", "filename", imageName));
+    }
+
+    private String recordImageUpload(String code, String imageName, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            productService.saveImageUpload(idempotencyKey, new ImageUpload(code, imageName));
+        }
+        return imageName;
+    }
+
+    private static ResponseEntity<Map<String, String>> replayImageUpload(String code, ImageUpload upload) {
+        if (!upload.code().equals(code)) {
+            return ResponseEntity.unprocessableEntity()
+                    .body(Map.of(
+                            STATUS_KEY, "error", "message", "Idempotency-Key was already used for another product"));
+        }
+        return ResponseEntity.ok()
+                .header(IDEMPOTENT_REPLAYED, "true")
+                .body(Map.of(STATUS_KEY, "success", "filename", upload.image()));
+    }
+
+    // a key that already completed is answered synchronously, Prefer: respond-async is only a preference
+    private ResponseEntity<?> uploadProductImageAsync(
+            String code, MultipartFile file, String imageUrl, String idempotencyKey) throws IOException {
+        if (idempotencyKey != null) {
+            Optional<ImageUpload> previous = productService.getImageUpload(idempotencyKey);
+            if (previous.isPresent()) {
+                return replayImageUpload(code, previous.get());
             }
-            // HttpClient does not need to be closed or managed with try-with-resources
-            HttpClient client = newHttpClient();
-            HttpRequest request =
-                    newBuilder().uri(java.net.URI.create(imageUrl)).GET().build();
-            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
-            if (response.statusCode() != 200) {
-                return ResponseEntity.status(HttpURLConnection.HTTP_BAD_REQUEST)
-                        .body(Map.of(STATUS_KEY, "error", "message", "Invalid imageUrl or unable to download image"));
+        }
+        ImageIngestionJob job;
+        if (file != null) {
+            var filename = file.getOriginalFilename();
+            var extn = filename.substring(filename.lastIndexOf("."));
+            // the multipart file is removed once this request completes, the job owns a copy
+            Path image = Files.createTempFile("image-ingestion-", extn);
+            file.transferTo(image);
+            try {
+                job = imageIngestionJobService.submit(code, () -> {
+                    try (InputStream inputStream = Files.newInputStream(image)) {
+                        String imageName = productService.uploadProductImage(code, code + extn, inputStream);
+                        return recordImageUpload(code, imageName, idempotencyKey);
+                    } finally {
+                        Files.deleteIfExists(image);
+                    }
+                });
+            } catch (RuntimeException e) {
+                Files.deleteIfExists(image);
+                throw e;
             }
-            String fileExtension = imageUrl.substring(imageUrl.lastIndexOf('.'));
-            imageName = code + fileExtension;
-            try (InputStream is = response.body()) {
-                productService.uploadProductImage(code, imageName, is);
+        } else {
+            if (!isValidImageUrl(imageUrl)) {
+                return invalidImageUrl();
             }
-            Map<String, String> responseMap = Map.of(STATUS_KEY, "success", "filename", imageName);
-            return ResponseEntity.ok(responseMap);
+            String imageName = code + imageUrl.substring(imageUrl.lastIndexOf('.'));
+            job = imageIngestionJobService.submit(code, () -> {
+                CompletableFuture<String> fetch = remoteImageFetcher.fetch(
+                        URI.create(imageUrl),
+                        image -> recordImageUpload(
+                                code, productService.uploadProductImage(code, imageName, image), idempotencyKey));
+                try {
+                    return fetch.get();
+                } finally {
+                    // a job interrupted at its deadline stops the download and the upload with it
+                    fetch.cancel(true);
+                }
+            });
         }
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/jobs/{id}")
+                .buildAndExpand(job.id())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
 
-        // Upload the image
-        productService.uploadProductImage(code, imageName, inputStream);
+    @GetMapping("/{code}/image/jobs/{id}")
+    ResponseEntity<ImageIngestionJob> getImageIngestionJob(@PathVariable String code, @PathVariable String id) {
+        return ResponseEntity.of(imageIngestionJobService.getJob(code, id));
+    }
 
-        Map<String, String> response = Map.of(STATUS_KEY, "success", "filename", imageName);
-        return ResponseEntity.ok(response);
+    // raw image body without servlet multipart parsing, streamed to storage while it is hashed
+    @PutMapping(
+            value = "/{code}/image",
+            consumes = {
+                MediaType.IMAGE_JPEG_VALUE,
+                MediaType.IMAGE_PNG_VALUE,
+                MediaType.IMAGE_GIF_VALUE,
+                "image/webp"
+            })
+    ResponseEntity<Map<String, String>> putProductImage(
+            @PathVariable String code,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+            InputStream body) {
+        if (contentLength == null) {
+            return ResponseEntity.status(HttpStatus.LENGTH_REQUIRED)
+                    .body(Map.of(STATUS_KEY, "error", "message", "Content-Length header is required"));
+        }
+        if (contentLength > properties.storage().maxImageSize().toBytes()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .body(Map.of(STATUS_KEY, "error", "message", "Image exceeds the maximum allowed size"));
+        }
+        String imageName =
+                productService.uploadProductImage(code, code + IMAGE_EXTENSIONS.get(contentType.getSubtype()), body);
+        return ResponseEntity.ok(Map.of(STATUS_KEY, "success", "filename", imageName));
+    }
+
+    private static boolean isRemoteImageFailure(Throwable e) {
+        Throwable failure = e instanceof CompletionException ? e.getCause() : e;
+        // reading the body fails with an UncheckedIOException, a stalled download with a TimeoutException
+        if (failure instanceof IOException
+                || failure instanceof UncheckedIOException
+                || failure instanceof TimeoutException) {
+            return true;
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RemoteImageFetchException) {
+                return true;
+            }
+        }
+        return false;
     }
 }
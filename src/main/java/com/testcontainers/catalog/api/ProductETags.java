@@ -0,0 +1,29 @@
+package com.testcontainers.catalog.api;
+
+import com.testcontainers.catalog.domain.models.Product;
+import java.util.List;
+import java.util.Objects;
+
+final class ProductETags {
+
+    private ProductETags() {}
+
+    // the version covers the stored fields; availability and the stored variants change independently of it.
+    // Signed URLs are left out, they are re-signed over time without the image behind them changing
+    static String of(Product product) {
+        return "\"" + product.version() + "-" + Integer.toHexString(external(product)) + "\"";
+    }
+
+    // max(version) covers every stored change behind the page, the hash covers what the page adds on top of it
+    static String ofList(long productsVersion, List<Product> products) {
+        int external = 1;
+        for (Product product : products) {
+            external = 31 * external + external(product);
+        }
+        return "W/\"" + productsVersion + "-" + Integer.toHexString(external) + "\"";
+    }
+
+    private static int external(Product product) {
+        return Objects.hash(product.available(), product.image(), product.imageVariants().keySet());
+    }
+}
@@ -0,0 +1,67 @@
+package com.testcontainers.catalog.api;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.domain.ProductService;
+import com.testcontainers.catalog.domain.models.Product;
+import com.testcontainers.catalog.domain.models.ProductSearchCriteria;
+import com.testcontainers.catalog.domain.models.ProductSearchCursor;
+import com.testcontainers.catalog.domain.models.ProductSearchPage;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+@RestController
+@RequestMapping("/api/products")
+class ProductSearchController {
+    private final ProductService productService;
+    private final ApplicationProperties properties;
+
+    ProductSearchController(ProductService productService, ApplicationProperties properties) {
+        this.productService = productService;
+        this.properties = properties;
+    }
+
+    // ranked by relevance when q is given, the next page is linked with an opaque cursor
+    @GetMapping("/search")
+    ResponseEntity<List<Product>> searchProducts(
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "minPrice", required = false) BigDecimal minPrice,
+            @RequestParam(value = "maxPrice", required = false) BigDecimal maxPrice,
+            @RequestParam(value = "available", required = false) Boolean available,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        ProductSearchCursor cursor;
+        try {
+            cursor = after == null ? null : ProductSearchCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = pageSize(limit);
+        ProductSearchPage page = productService.searchProducts(
+                new ProductSearchCriteria(query, minPrice, maxPrice, available), cursor, pageSize);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.next() != null) {
+            URI next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", page.next().encode())
+                    .replaceQueryParam("limit", pageSize)
+                    .build()
+                    .toUri();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.products());
+    }
+
+    private int pageSize(Integer limit) {
+        if (limit == null) {
+            return properties.listing().defaultPageSize();
+        }
+        return Math.max(1, Math.min(limit, properties.listing().maxPageSize()));
+    }
+}
@@ -0,0 +1,40 @@
+package com.testcontainers.catalog.clients.images;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+class MaxSizeInputStream extends FilterInputStream {
+    private final long maxBytes;
+    private long count;
+
+    MaxSizeInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            onRead(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, len);
+        if (read > 0) {
+            onRead(read);
+        }
+        return read;
+    }
+
+    private void onRead(int read) {
+        count += read;
+        if (count > maxBytes) {
+            throw new RemoteImageFetchException("Remote image exceeds the maximum size of " + maxBytes + " bytes");
+        }
+    }
+}
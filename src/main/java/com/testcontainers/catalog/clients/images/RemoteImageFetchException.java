@@ -0,0 +1,11 @@
+package com.testcontainers.catalog.clients.images;
+
+public class RemoteImageFetchException extends RuntimeException {
+    public RemoteImageFetchException(String message) {
+        super(message);
+    }
+
+    public RemoteImageFetchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
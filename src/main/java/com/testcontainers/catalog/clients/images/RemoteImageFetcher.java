@@ -0,0 +1,92 @@
+package com.testcontainers.catalog.clients.images;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.metrics.RequestTimings;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RemoteImageFetcher {
+    private final ApplicationProperties.RemoteImages config;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+
+    public RemoteImageFetcher(ApplicationProperties properties) {
+        this.config = properties.remoteImages();
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(config.connectTimeout())
+                .executor(executor)
+                .build();
+    }
+
+    // the handler runs on a virtual thread, the content stream is closed once it returns. The request timeout only
+    // covers the response headers, fetchTimeout bounds reading the body and handling it; a fetch that times out or
+    // is cancelled closes the body and interrupts the handler
+    public <T> CompletableFuture<T> fetch(URI uri, Function<InputStream, T> handler) {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(config.requestTimeout()).GET().build();
+        CompletableFuture<HttpResponse<InputStream>> response =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> handling = executor.submit(RequestTimings.propagate(() -> {
+            try {
+                result.complete(handle(response.get(), handler));
+            } catch (ExecutionException e) {
+                result.completeExceptionally(e.getCause());
+            } catch (InterruptedException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }));
+        result.orTimeout(config.fetchTimeout().toMillis(), TimeUnit.MILLISECONDS).whenComplete((value, e) -> {
+            if (e != null) {
+                response.cancel(true);
+                response.thenAccept(r -> closeQuietly(r.body()));
+                handling.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T handle(HttpResponse<InputStream> response, Function<InputStream, T> handler) {
+        long maxBytes = config.maxSize().toBytes();
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new RemoteImageFetchException("Unable to download image, status " + response.statusCode());
+            }
+            if (response.headers().firstValueAsLong("Content-Length").orElse(0) > maxBytes) {
+                throw new RemoteImageFetchException("Remote image exceeds the maximum size of " + maxBytes + " bytes");
+            }
+            return handler.apply(new MaxSizeInputStream(body, maxBytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            // the fetch already failed, a failure to release the connection adds nothing
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.testcontainers.catalog.clients.inventory;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.testcontainers.catalog.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+class CachingInventoryServiceClient implements InventoryServiceClient {
+    private final InventoryServiceClient delegate;
+    private final LoadingCache<String, CachedInventory> cache;
+
+    CachingInventoryServiceClient(
+            InventoryServiceClient delegate, ApplicationProperties.Inventory.Cache config, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.maximumSize())
+                .expireAfter(new InventoryExpiry(config))
+                .refreshAfterWrite(config.refreshAfter())
+                .recordStats()
+                .build(new InventoryLoader());
+        CaffeineCacheMetrics.monitor(registry, cache, "inventory");
+    }
+
+    @Override
+    public ProductInventory getInventory(String code) {
+        return cache.get(code).get();
+    }
+
+    @Override
+    public List<ProductInventory> getInventories(List<String> codes) {
+        return cache.getAll(codes).values().stream()
+                .filter(CachedInventory::found)
+                .map(CachedInventory::inventory)
+                .toList();
+    }
+
+    private class InventoryLoader implements CacheLoader<String, CachedInventory> {
+        @Override
+        public CachedInventory load(String code) {
+            try {
+                return CachedInventory.of(delegate.getInventory(code));
+            } catch (InventoryUnavailableException e) {
+                // an open breaker or a full bulkhead says nothing about the product, so it is not cached
+                throw e;
+            } catch (RuntimeException e) {
+                return CachedInventory.failed(e);
+            }
+        }
+
+        @Override
+        public Map<String, CachedInventory> loadAll(Set<? extends String> codes) {
+            Map<String, CachedInventory> result = new HashMap<>();
+            try {
+                delegate.getInventories(List.copyOf(codes))
+                        .forEach(inventory -> result.put(inventory.code(), CachedInventory.of(inventory)));
+            } catch (InventoryUnavailableException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                codes.forEach(code -> result.put(code, CachedInventory.failed(e)));
+            }
+            // codes the service does not know are cached as such instead of being requested again on every lookup
+            codes.forEach(code -> result.putIfAbsent(code, CachedInventory.missing()));
+            return result;
+        }
+
+        @Override
+        public CachedInventory reload(String code, CachedInventory oldValue) {
+            CachedInventory reloaded;
+            try {
+                reloaded = load(code);
+            } catch (InventoryUnavailableException e) {
+                return oldValue.asRetained();
+            }
+            // keep serving the stale inventory until it expires instead of replacing it with a failure
+            return reloaded.failed() && !oldValue.failed() ? oldValue.asRetained() : reloaded;
+        }
+    }
+
+    private record InventoryExpiry(ApplicationProperties.Inventory.Cache config)
+            implements Expiry<String, CachedInventory> {
+        @Override
+        public long expireAfterCreate(String code, CachedInventory value, long currentTime) {
+            return (value.failed() ? config.failureTtl() : config.ttl()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String code, CachedInventory value, long currentTime, long currentDuration) {
+            return value.retained() ? currentDuration : expireAfterCreate(code, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String code, CachedInventory value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private record CachedInventory(ProductInventory inventory, RuntimeException failure, boolean retained) {
+        static CachedInventory of(ProductInventory inventory) {
+            return new CachedInventory(Objects.requireNonNull(inventory), null, false);
+        }
+
+        static CachedInventory failed(RuntimeException failure) {
+            return new CachedInventory(null, failure, false);
+        }
+
+        static CachedInventory missing() {
+            return new CachedInventory(null, null, false);
+        }
+
+        boolean failed() {
+            return failure != null;
+        }
+
+        boolean found() {
+            return inventory != null;
+        }
+
+        CachedInventory asRetained() {
+            return new CachedInventory(inventory, failure, true);
+        }
+
+        ProductInventory get() {
+            if (failed()) {
+                throw failure;
+            }
+            if (!found()) {
+                throw new NoSuchElementException("Inventory service does not know the product");
+            }
+            return inventory;
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.testcontainers.catalog.clients.inventory;
 
+import java.util.List;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.service.annotation.GetExchange;
 
 public interface InventoryServiceClient {
 
     @GetExchange("/api/inventory/{code}")
     ProductInventory getInventory(@PathVariable String code);
+
+    @GetExchange("/api/inventory")
+    List<ProductInventory> getInventories(@RequestParam("codes") List<String> codes);
 }
@@ -0,0 +1,7 @@
+package com.testcontainers.catalog.clients.inventory;
+
+public class InventoryUnavailableException extends RuntimeException {
+    public InventoryUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
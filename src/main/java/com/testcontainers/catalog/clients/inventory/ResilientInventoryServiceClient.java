@@ -0,0 +1,80 @@
+package com.testcontainers.catalog.clients.inventory;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.function.Supplier;
+
+// calls rejected by an open breaker or a full bulkhead never reach the network
+class ResilientInventoryServiceClient implements InventoryServiceClient {
+    private static final String NAME = "inventory";
+
+    private final InventoryServiceClient delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    ResilientInventoryServiceClient(
+            InventoryServiceClient delegate, ApplicationProperties.Inventory config, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        ApplicationProperties.Inventory.CircuitBreaker breaker = config.circuitBreaker();
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+        this.circuitBreaker = circuitBreakers.circuitBreaker(
+                NAME,
+                CircuitBreakerConfig.custom()
+                        .failureRateThreshold(breaker.failureRateThreshold())
+                        .slowCallRateThreshold(breaker.slowCallRateThreshold())
+                        .slowCallDurationThreshold(breaker.slowCallDurationThreshold())
+                        .slidingWindowSize(breaker.slidingWindowSize())
+                        .minimumNumberOfCalls(breaker.minimumNumberOfCalls())
+                        .waitDurationInOpenState(breaker.waitDurationInOpenState())
+                        .permittedNumberOfCallsInHalfOpenState(breaker.permittedCallsInHalfOpenState())
+                        .build());
+        if (!breaker.enabled()) {
+            circuitBreaker.transitionToDisabledState();
+        }
+        BulkheadRegistry bulkheads = BulkheadRegistry.ofDefaults();
+        this.bulkhead = bulkheads.bulkhead(
+                NAME,
+                BulkheadConfig.custom()
+                        .maxConcurrentCalls(config.bulkhead().maxConcurrentCalls())
+                        .maxWaitDuration(config.bulkhead().maxWaitDuration())
+                        .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+    }
+
+    @Override
+    public ProductInventory getInventory(String code) {
+        return call(() -> delegate.getInventory(code));
+    }
+
+    @Override
+    public List<ProductInventory> getInventories(List<String> codes) {
+        return call(() -> delegate.getInventories(codes));
+    }
+
+    CircuitBreaker.State state() {
+        return circuitBreaker.getState();
+    }
+
+    private <T> T call(Supplier<T> call) {
+        try {
+            // a full bulkhead is not a failure of the inventory service, so it does not count towards the breaker
+            return bulkhead.executeSupplier(() -> circuitBreaker.executeSupplier(call));
+        } catch (CallNotPermittedException e) {
+            throw new InventoryUnavailableException("Inventory service circuit breaker is open", e);
+        } catch (BulkheadFullException e) {
+            throw new InventoryUnavailableException("Too many concurrent inventory service calls", e);
+        }
+    }
+}
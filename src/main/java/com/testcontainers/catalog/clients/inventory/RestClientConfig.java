@@ -1,8 +1,20 @@
 package com.testcontainers.catalog.clients.inventory;
 
 import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.metrics.DependencyMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
@@ -10,11 +22,51 @@ import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 @Configuration
 class RestClientConfig {
 
+    // the classic (blocking) client pools HTTP/1.1 connections only, kept alive and reused across requests
     @Bean
-    InventoryServiceClient inventoryServiceProxy(ApplicationProperties properties) {
-        RestClient restClient = RestClient.create(properties.inventoryServiceUrl());
+    CloseableHttpClient inventoryHttpClient(ApplicationProperties properties, MeterRegistry meterRegistry) {
+        ApplicationProperties.Inventory.Http http = properties.inventory().http();
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.maxConnections())
+                .setMaxConnPerRoute(http.maxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(http.connectTimeout().toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(http.readTimeout().toMillis()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(http.connectionTimeToLive().toMillis()))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(http.validateAfterInactivity().toMillis()))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "inventory").bindTo(meterRegistry);
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(
+                                Timeout.ofMilliseconds(http.connectionRequestTimeout().toMillis()))
+                        .setConnectionKeepAlive(TimeValue.ofMilliseconds(http.keepAlive().toMillis()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(http.keepAlive().toMillis()))
+                .build();
+    }
+
+    @Bean
+    InventoryServiceClient inventoryServiceProxy(
+            ApplicationProperties properties,
+            CloseableHttpClient inventoryHttpClient,
+            MeterRegistry meterRegistry,
+            DependencyMetrics dependencyMetrics) {
+        ApplicationProperties.Inventory inventory = properties.inventory();
+        RestClient restClient = RestClient.builder()
+                .baseUrl(properties.inventoryServiceUrl())
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(inventoryHttpClient))
+                .build();
         HttpServiceProxyFactory factory = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient))
                 .build();
-        return factory.createClient(InventoryServiceClient.class);
+        InventoryServiceClient client = new ResilientInventoryServiceClient(
+                new TimedInventoryServiceClient(factory.createClient(InventoryServiceClient.class), dependencyMetrics),
+                inventory,
+                meterRegistry);
+        ApplicationProperties.Inventory.Cache cache = inventory.cache();
+        return cache.enabled() ? new CachingInventoryServiceClient(client, cache, meterRegistry) : client;
     }
 }
@@ -0,0 +1,26 @@
+package com.testcontainers.catalog.clients.inventory;
+
+import com.testcontainers.catalog.metrics.DependencyMetrics;
+import java.util.List;
+
+class TimedInventoryServiceClient implements InventoryServiceClient {
+    private static final String DEPENDENCY = "inventory";
+
+    private final InventoryServiceClient delegate;
+    private final DependencyMetrics dependencyMetrics;
+
+    TimedInventoryServiceClient(InventoryServiceClient delegate, DependencyMetrics dependencyMetrics) {
+        this.delegate = delegate;
+        this.dependencyMetrics = dependencyMetrics;
+    }
+
+    @Override
+    public ProductInventory getInventory(String code) {
+        return dependencyMetrics.record(DEPENDENCY, "getInventory", () -> delegate.getInventory(code));
+    }
+
+    @Override
+    public List<ProductInventory> getInventories(List<String> codes) {
+        return dependencyMetrics.record(DEPENDENCY, "getInventories", () -> delegate.getInventories(codes));
+    }
+}
@@ -1,5 +1,6 @@
 package com.testcontainers.catalog.config;
 
+import com.testcontainers.catalog.domain.ImageIngestionRejectedException;
 import com.testcontainers.catalog.domain.ProductNotFoundException;
 import java.time.Instant;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -30,4 +31,12 @@ class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         problemDetail.setProperty("timestamp", Instant.now());
         return problemDetail;
     }
+
+    @ExceptionHandler(ImageIngestionRejectedException.class)
+    ProblemDetail handleImageIngestionRejectedException(ImageIngestionRejectedException e) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        problemDetail.setTitle("Image Ingestion Rejected");
+        problemDetail.setProperty("timestamp", Instant.now());
+        return problemDetail;
+    }
 }
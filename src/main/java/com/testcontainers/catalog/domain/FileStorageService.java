@@ -7,5 +7,13 @@ public interface FileStorageService {
 
     void upload(String filename, InputStream inputStream);
 
+    boolean exists(String filename);
+
+    void copy(String sourceFilename, String targetFilename);
+
+    InputStream download(String filename);
+
+    void delete(String filename);
+
     String getPreSignedURL(String filename);
 }
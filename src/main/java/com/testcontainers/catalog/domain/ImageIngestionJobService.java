@@ -0,0 +1,12 @@
+package com.testcontainers.catalog.domain;
+
+import com.testcontainers.catalog.domain.models.ImageIngestionJob;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+public interface ImageIngestionJobService {
+
+    ImageIngestionJob submit(String code, Callable<String> ingestion);
+
+    Optional<ImageIngestionJob> getJob(String code, String id);
+}
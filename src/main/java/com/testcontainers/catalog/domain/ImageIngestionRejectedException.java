@@ -0,0 +1,7 @@
+package com.testcontainers.catalog.domain;
+
+public class ImageIngestionRejectedException extends RuntimeException {
+    public ImageIngestionRejectedException(String message) {
+        super(message);
+    }
+}
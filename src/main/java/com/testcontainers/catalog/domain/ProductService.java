@@ -1,20 +1,43 @@
 package com.testcontainers.catalog.domain;
 
+import com.testcontainers.catalog.domain.models.BulkProductResult;
 import com.testcontainers.catalog.domain.models.CreateProductRequest;
+import com.testcontainers.catalog.domain.models.ImageUpload;
 import com.testcontainers.catalog.domain.models.Product;
+import com.testcontainers.catalog.domain.models.ProductSearchCriteria;
+import com.testcontainers.catalog.domain.models.ProductSearchCursor;
+import com.testcontainers.catalog.domain.models.ProductSearchPage;
 import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductService {
 
     void createProduct(CreateProductRequest request);
 
+    BulkProductResult createProducts(List<CreateProductRequest> requests, int firstIndex, boolean updateExisting);
+
     Optional<Product> getProductByCode(String code);
 
-    void uploadProductImage(String code, String imageName, InputStream inputStream);
+    String uploadProductImage(String code, String imageName, InputStream inputStream);
+
+    Optional<ImageUpload> getImageUpload(String idempotencyKey);
+
+    void saveImageUpload(String idempotencyKey, ImageUpload upload);
 
     void updateProductImage(String code, String image);
 
+    void updateProductImages(Map<String, String> imagesByCode);
+
+    void evictCachedProduct(String code);
+
     List<Product> getAllProducts();
+
+    List<Product> getProducts(long afterId, int limit);
+
+    // highest product version, changes whenever any product is created or updated
+    long getProductsVersion();
+
+    ProductSearchPage searchProducts(ProductSearchCriteria criteria, ProductSearchCursor after, int limit);
 }
@@ -0,0 +1,119 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.domain.ImageIngestionJobService;
+import com.testcontainers.catalog.domain.ImageIngestionRejectedException;
+import com.testcontainers.catalog.domain.models.ImageIngestionJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+class DefaultImageIngestionJobService implements ImageIngestionJobService {
+    private static final Logger log = LoggerFactory.getLogger(DefaultImageIngestionJobService.class);
+
+    private final ApplicationProperties.ImageIngestion config;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor workers;
+    private final ImageIngestionJobRepository jobRepository;
+
+    public DefaultImageIngestionJobService(
+            ApplicationProperties properties, MeterRegistry meterRegistry, ImageIngestionJobRepository jobRepository) {
+        this.config = properties.imageIngestion();
+        this.meterRegistry = meterRegistry;
+        this.jobRepository = jobRepository;
+        this.workers = new ThreadPoolExecutor(
+                config.maxConcurrency(),
+                config.maxConcurrency(),
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.queueCapacity()),
+                Thread.ofVirtual().name("image-ingestion-", 0).factory());
+        meterRegistry.gauge("catalog.image.ingestion.queue.size", workers, w -> w.getQueue().size());
+        meterRegistry.gauge("catalog.image.ingestion.active", workers, ThreadPoolExecutor::getActiveCount);
+    }
+
+    @Override
+    public ImageIngestionJob submit(String code, Callable<String> ingestion) {
+        ImageIngestionJob job = ImageIngestionJob.queued(UUID.randomUUID().toString(), code);
+        save(job);
+        try {
+            workers.execute(() -> run(job, ingestion));
+        } catch (RejectedExecutionException e) {
+            jobRepository.deleteById(job.id());
+            throw new ImageIngestionRejectedException(
+                    "Image ingestion queue is full, " + config.queueCapacity() + " jobs are waiting");
+        }
+        return job;
+    }
+
+    @Override
+    public Optional<ImageIngestionJob> getJob(String code, String id) {
+        return jobRepository.findById(id).map(ImageIngestionJobEntity::toJob).filter(job -> job.code().equals(code));
+    }
+
+    // a job whose instance stopped while it was running stays RUNNING until it is deleted with the others
+    @Scheduled(fixedDelayString = "${application.image-ingestion.cleanup-interval}")
+    void deleteExpired() {
+        int deleted = jobRepository.deleteSubmittedBefore(Instant.now().minus(config.jobRetention()));
+        if (deleted > 0) {
+            log.debug("Deleted {} expired image ingestion jobs", deleted);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    // the ingestion runs on the worker thread itself and is interrupted at its deadline, so a job is only reported
+    // as completed once nothing of it is running any more
+    private void run(ImageIngestionJob job, Callable<String> ingestion) {
+        save(job.running());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        FutureTask<String> task = new FutureTask<>(ingestion);
+        CompletableFuture<Void> deadline = CompletableFuture.runAsync(
+                () -> task.cancel(true),
+                CompletableFuture.delayedExecutor(config.jobTimeout().toMillis(), TimeUnit.MILLISECONDS));
+        task.run();
+        deadline.cancel(false);
+        // a deadline that fired while the ingestion was finishing must not interrupt the next job on this worker
+        Thread.interrupted();
+        ImageIngestionJob completed;
+        try {
+            completed = job.succeeded(task.get());
+        } catch (CancellationException e) {
+            completed = job.failed("Image ingestion did not complete within " + config.jobTimeout());
+        } catch (ExecutionException e) {
+            log.error("Image ingestion job {} for product {} failed", job.id(), job.code(), e.getCause());
+            completed = job.failed(e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            completed = job.failed("Image ingestion was interrupted");
+        }
+        save(completed);
+        sample.stop(Timer.builder("catalog.image.ingestion.duration")
+                .tag("outcome", completed.status().name().toLowerCase())
+                .register(meterRegistry));
+    }
+
+    private void save(ImageIngestionJob job) {
+        jobRepository.save(new ImageIngestionJobEntity(job));
+    }
+}
@@ -1,39 +1,86 @@
 package com.testcontainers.catalog.domain.internal;
 
-import com.testcontainers.catalog.clients.inventory.InventoryServiceClient;
+import com.testcontainers.catalog.ApplicationProperties;
 import com.testcontainers.catalog.domain.FileStorageService;
 import com.testcontainers.catalog.domain.ProductService;
+import com.testcontainers.catalog.domain.internal.ProductBatchRepository.UpsertedProduct;
+import com.testcontainers.catalog.domain.internal.ProductSearchRepository.ProductSearchHit;
+import com.testcontainers.catalog.domain.models.BulkProductResult;
+import com.testcontainers.catalog.domain.models.BulkProductResult.ItemError;
 import com.testcontainers.catalog.domain.models.CreateProductRequest;
+import com.testcontainers.catalog.domain.models.ImageUpload;
 import com.testcontainers.catalog.domain.models.Product;
+import com.testcontainers.catalog.domain.models.ProductCacheInvalidatedEvent;
 import com.testcontainers.catalog.domain.models.ProductImageUploadedEvent;
+import com.testcontainers.catalog.domain.models.ProductSearchCriteria;
+import com.testcontainers.catalog.domain.models.ProductSearchCursor;
+import com.testcontainers.catalog.domain.models.ProductSearchPage;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 
+// no service-level transactions: every repository call is its own short transaction,
+// so S3, Kafka and inventory calls never hold a database connection
 @Service
-@Transactional
 class DefaultProductService implements ProductService {
     private static final Logger log = LoggerFactory.getLogger(DefaultProductService.class);
+    private static final String STAGING_PREFIX = "staging/";
 
     private final ProductRepository productRepository;
-    private final InventoryServiceClient inventoryServiceClient;
+    private final ProductCache productCache;
+    private final ProductAvailabilityService productAvailabilityService;
     private final FileStorageService fileStorageService;
     private final ProductEventPublisher productEventPublisher;
+    private final ProductEventOutboxRepository outboxRepository;
+    private final ImageVariantService imageVariantService;
+    private final ImageUploadRepository imageUploadRepository;
+    private final ApplicationProperties properties;
+    private final Validator validator;
 
     public DefaultProductService(
             ProductRepository productRepository,
-            InventoryServiceClient inventoryServiceClient,
+            ProductCache productCache,
+            ProductAvailabilityService productAvailabilityService,
             FileStorageService fileStorageService,
-            ProductEventPublisher productEventPublisher) {
+            ProductEventPublisher productEventPublisher,
+            ProductEventOutboxRepository outboxRepository,
+            ImageVariantService imageVariantService,
+            ImageUploadRepository imageUploadRepository,
+            ApplicationProperties properties,
+            Validator validator) {
         this.productRepository = productRepository;
-        this.inventoryServiceClient = inventoryServiceClient;
+        this.productCache = productCache;
+        this.productAvailabilityService = productAvailabilityService;
         this.fileStorageService = fileStorageService;
         this.productEventPublisher = productEventPublisher;
+        this.outboxRepository = outboxRepository;
+        this.imageVariantService = imageVariantService;
+        this.imageUploadRepository = imageUploadRepository;
+        this.properties = properties;
+        this.validator = validator;
     }
 
     public void createProduct(CreateProductRequest request) {
@@ -44,50 +91,254 @@ class DefaultProductService implements ProductService {
         entity.setPrice(request.price());
 
         productRepository.save(entity);
+        productCache.evict(request.code());
+    }
+
+    public BulkProductResult createProducts(
+            List<CreateProductRequest> requests, int firstIndex, boolean updateExisting) {
+        List<ItemError> errors = new ArrayList<>();
+        Map<String, Integer> indexByCode = new LinkedHashMap<>();
+        Map<String, CreateProductRequest> validRequests = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateProductRequest request = requests.get(i);
+            int index = firstIndex + i;
+            Set<ConstraintViolation<CreateProductRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                errors.add(new ItemError(index, request.code(), describe(violations)));
+                continue;
+            }
+            // a single upsert statement cannot touch the same row twice, the last occurrence wins
+            Integer previous = indexByCode.put(request.code(), index);
+            if (previous != null) {
+                errors.add(new ItemError(previous, request.code(), "superseded by item " + index));
+            }
+            validRequests.put(request.code(), request);
+        }
+
+        List<UpsertedProduct> upserted = productRepository.upsertProducts(validRequests.values(), updateExisting);
+        int inserted = (int) upserted.stream().filter(UpsertedProduct::inserted).count();
+        int updated = upserted.size() - inserted;
+        evictEverywhere(upserted.stream().map(UpsertedProduct::code).toList());
+        return new BulkProductResult(inserted, updated, validRequests.size() - upserted.size(), errors);
+    }
+
+    private static String describe(Set<ConstraintViolation<CreateProductRequest>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
     }
 
     @Override
     public List<Product> getAllProducts() {
-        return productRepository.findAll().stream().map(this::toProduct).toList();
+        return toProducts(productRepository.findAllViews());
+    }
+
+    @Override
+    public List<Product> getProducts(long afterId, int limit) {
+        return toProducts(productRepository.findViewsAfterId(afterId, Limit.of(limit)));
+    }
+
+    @Override
+    public long getProductsVersion() {
+        return productRepository.findMaxVersion();
+    }
+
+    // availability comes from the inventory service, so filling a page filtered on it can take several queries;
+    // a page may come back short once application.search.max-scanned-rows rows were looked at
+    @Override
+    public ProductSearchPage searchProducts(
+            ProductSearchCriteria criteria, @Nullable ProductSearchCursor after, int limit) {
+        List<Product> page = new ArrayList<>(limit);
+        ProductSearchCursor cursor = after;
+        int scanned = 0;
+        while (true) {
+            List<ProductSearchHit> hits = productRepository.searchProducts(criteria, cursor, limit);
+            List<Product> products = toProducts(hits.stream().map(ProductSearchHit::product).toList());
+            int consumed = 0;
+            while (consumed < hits.size() && page.size() < limit) {
+                Product product = products.get(consumed);
+                cursor = hits.get(consumed).cursor();
+                consumed++;
+                if (criteria.available() == null || product.available() == criteria.available()) {
+                    page.add(product);
+                }
+            }
+            scanned += consumed;
+            if (hits.size() < limit && consumed == hits.size()) {
+                return new ProductSearchPage(page, null);
+            }
+            if (page.size() == limit || scanned >= properties.search().maxScannedRows()) {
+                return new ProductSearchPage(page, cursor);
+            }
+        }
     }
 
     public Optional<Product> getProductByCode(String code) {
-        Optional<ProductEntity> productEntity = productRepository.findByCode(code);
-        if (productEntity.isEmpty()) {
+        Optional<ProductView> product =
+                productCache.get(code, c -> productRepository.findByCode(c).map(ProductView::of));
+        if (product.isEmpty()) {
             return Optional.empty();
         }
-        return productEntity.map(this::toProduct);
+        return product.map(view -> toProduct(
+                view,
+                productAvailabilityService.isProductAvailable(view.code()),
+                variantWidths(Collections.singletonList(view.image()))));
+    }
+
+    // stored under the SHA-256 of its content, so identical bytes are stored, resized and announced only once.
+    // The key is only known once the whole body was read, so the body is streamed to a staging key while it is
+    // hashed and then copied within S3. Staging objects left behind by a crash need an expiry rule on the prefix
+    public String uploadProductImage(String code, String imageName, InputStream inputStream) {
+        String stagingName = STAGING_PREFIX + UUID.randomUUID() + "/" + imageName;
+        MessageDigest digest = sha256();
+        fileStorageService.upload(stagingName, new DigestInputStream(inputStream, digest));
+        try {
+            String storedName = HexFormat.of().formatHex(digest.digest()) + "/" + imageName;
+            ensureNotCancelled(code);
+            if (fileStorageService.exists(storedName)) {
+                log.debug("Image {} is already stored, skipping upload", storedName);
+            } else {
+                fileStorageService.copy(stagingName, storedName);
+                if (ImageVariantService.supportsVariants(imageName)) {
+                    imageVariantService.createVariants(storedName);
+                }
+            }
+            ensureNotCancelled(code);
+            if (!storedName.equals(currentImage(code))) {
+                queueImageUploadedEvent(code, storedName);
+            }
+            return storedName;
+        } finally {
+            deleteStagingObject(stagingName);
+        }
+    }
+
+    // an image ingestion past its deadline is interrupted, it must not store or announce the image after that
+    private static void ensureNotCancelled(String code) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Image upload for product " + code + " was cancelled");
+        }
+    }
+
+    private void deleteStagingObject(String stagingName) {
+        try {
+            fileStorageService.delete(stagingName);
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete staged image {}", stagingName, e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String currentImage(String code) {
+        return productCache
+                .get(code, c -> productRepository.findByCode(c).map(ProductView::of))
+                .map(ProductView::image)
+                .orElse(null);
     }
 
-    public void uploadProductImage(String code, String imageName, InputStream inputStream) {
-        fileStorageService.upload(imageName, inputStream);
-        productEventPublisher.publish(new ProductImageUploadedEvent(code, imageName));
+    private void queueImageUploadedEvent(String code, String image) {
+        if (properties.outbox().enabled()) {
+            // relayed to Kafka by ProductEventOutboxRelay
+            outboxRepository.save(new ProductEventOutboxEntity(code, image));
+        } else {
+            productEventPublisher.publish(new ProductImageUploadedEvent(code, image));
+        }
         code = code.replaceAll("[\n\r]", "_");
-        log.info("Published event to update product image for code: {}", code);
+        log.info("Queued event to update product image for code: {}", code);
+    }
+
+    public Optional<ImageUpload> getImageUpload(String idempotencyKey) {
+        return imageUploadRepository
+                .findById(idempotencyKey)
+                .map(upload -> new ImageUpload(upload.getCode(), upload.getImage()));
+    }
+
+    public void saveImageUpload(String idempotencyKey, ImageUpload upload) {
+        imageUploadRepository.insertIfAbsent(idempotencyKey, upload.code(), upload.image());
     }
 
     public void updateProductImage(String code, String image) {
         productRepository.updateProductImage(code, image);
+        evictEverywhere(List.of(code));
     }
 
-    private boolean isProductAvailable(String code) {
-        try {
-            return inventoryServiceClient.getInventory(code).quantity() > 0;
-        } catch (Exception e) {
-            log.error("Error while calling inventory service", e);
-            // business decision is to show as available if inventory service is down
-            return true;
+    public void updateProductImages(Map<String, String> imagesByCode) {
+        productRepository.updateProductImages(imagesByCode);
+        evictEverywhere(imagesByCode.keySet());
+    }
+
+    public void evictCachedProduct(String code) {
+        productCache.evict(code);
+    }
+
+    // other instances are only told once the update has committed, otherwise they could reload and cache the old row
+    private void evictEverywhere(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return;
         }
+        codes.forEach(productCache::evict);
+        ProductCacheInvalidatedEvent event = new ProductCacheInvalidatedEvent(List.copyOf(codes));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            productEventPublisher.publishCacheInvalidation(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                productEventPublisher.publishCacheInvalidation(event);
+            }
+        });
+    }
+
+    List<Product> toProducts(List<ProductView> products) {
+        Map<String, Boolean> availability = productAvailabilityService.getProductsAvailability(
+                products.stream().map(ProductView::code).toList());
+        Map<String, List<Integer>> variantWidths = variantWidths(products.stream().map(ProductView::image).toList());
+        return products.stream()
+                .map(product -> toProduct(product, availability.get(product.code()), variantWidths))
+                .toList();
     }
 
-    private Product toProduct(ProductEntity entity) {
+    private Map<String, List<Integer>> variantWidths(List<String> images) {
+        List<String> withVariants = images.stream()
+                .filter(image -> StringUtils.hasText(image) && ImageVariantService.supportsVariants(image))
+                .distinct()
+                .toList();
+        return withVariants.isEmpty() ? Map.of() : imageVariantService.storedWidths(withVariants);
+    }
+
+    private Product toProduct(ProductView product, boolean available, Map<String, List<Integer>> variantWidths) {
         return new Product(
-                entity.getId(),
-                entity.getCode(),
-                entity.getName(),
-                entity.getDescription(),
-                StringUtils.hasText(entity.getImage()) ? fileStorageService.getPreSignedURL(entity.getImage()) : null,
-                entity.getPrice(),
-                isProductAvailable(entity.getCode()));
+                product.id(),
+                product.code(),
+                product.name(),
+                product.description(),
+                StringUtils.hasText(product.image()) ? fileStorageService.getPreSignedURL(product.image()) : null,
+                product.price(),
+                available,
+                imageVariantUrls(product.image(), variantWidths),
+                product.image(),
+                product.version());
+    }
+
+    private Map<String, String> imageVariantUrls(String image, Map<String, List<Integer>> variantWidths) {
+        if (!StringUtils.hasText(image)) {
+            return Map.of();
+        }
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (int width : variantWidths.getOrDefault(image, List.of())) {
+            urls.put(
+                    String.valueOf(width),
+                    fileStorageService.getPreSignedURL(ImageVariantService.variantName(image, width)));
+        }
+        return urls;
     }
 }
@@ -0,0 +1,54 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.testcontainers.catalog.domain.models.ImageIngestionJob;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+@Entity
+@Table(name = "image_ingestion_jobs")
+class ImageIngestionJobEntity {
+    @Id
+    private String id;
+
+    @Column(nullable = false)
+    private String code;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImageIngestionJob.Status status;
+
+    private String filename;
+
+    private String error;
+
+    @Column(name = "submitted_at", nullable = false)
+    private Instant submittedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    public ImageIngestionJobEntity() {}
+
+    ImageIngestionJobEntity(ImageIngestionJob job) {
+        this.id = job.id();
+        this.code = job.code();
+        this.status = job.status();
+        this.filename = job.filename();
+        this.error = job.error();
+        this.submittedAt = job.submittedAt();
+        this.completedAt = job.completedAt();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    ImageIngestionJob toJob() {
+        return new ImageIngestionJob(id, code, status, filename, error, submittedAt, completedAt);
+    }
+}
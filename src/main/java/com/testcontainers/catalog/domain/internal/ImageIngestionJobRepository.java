@@ -0,0 +1,16 @@
+package com.testcontainers.catalog.domain.internal;
+
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+interface ImageIngestionJobRepository extends JpaRepository<ImageIngestionJobEntity, String> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from ImageIngestionJobEntity j where j.submittedAt < :before")
+    int deleteSubmittedBefore(@Param("before") Instant before);
+}
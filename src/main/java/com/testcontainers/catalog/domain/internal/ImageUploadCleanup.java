@@ -0,0 +1,30 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+class ImageUploadCleanup {
+    private static final Logger log = LoggerFactory.getLogger(ImageUploadCleanup.class);
+
+    private final ImageUploadRepository imageUploadRepository;
+    private final ApplicationProperties properties;
+
+    ImageUploadCleanup(ImageUploadRepository imageUploadRepository, ApplicationProperties properties) {
+        this.imageUploadRepository = imageUploadRepository;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${application.image-uploads.cleanup-interval}")
+    void deleteExpired() {
+        int deleted = imageUploadRepository.deleteCreatedBefore(
+                Instant.now().minus(properties.imageUploads().idempotencyKeyRetention()));
+        if (deleted > 0) {
+            log.debug("Deleted {} expired image upload idempotency keys", deleted);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.testcontainers.catalog.domain.internal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+@Entity
+@Table(name = "image_uploads")
+class ImageUploadEntity {
+    @Id
+    @Column(name = "idempotency_key")
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private String code;
+
+    @Column(nullable = false)
+    private String image;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public ImageUploadEntity() {}
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getImage() {
+        return image;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.testcontainers.catalog.domain.internal;
+
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+interface ImageUploadRepository extends JpaRepository<ImageUploadEntity, String> {
+
+    // of two concurrent requests with the same key, the first recorded result is the one replayed
+    @Transactional
+    @Modifying
+    @Query(
+            value =
+                    """
+                    insert into image_uploads (idempotency_key, code, image) values (:key, :code, :image)
+                    on conflict (idempotency_key) do nothing
+                    """,
+            nativeQuery = true)
+    void insertIfAbsent(@Param("key") String idempotencyKey, @Param("code") String code, @Param("image") String image);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ImageUploadEntity u where u.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") Instant before);
+}
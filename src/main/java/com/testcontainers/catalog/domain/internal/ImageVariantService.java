@@ -0,0 +1,224 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.domain.FileStorageService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+// resizing is CPU bound, so variants are produced on a small pool of platform threads
+@Component
+class ImageVariantService {
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantService.class);
+
+    private final FileStorageService fileStorageService;
+    private final ImageVariantsRepository imageVariantsRepository;
+    private final ApplicationProperties.ImageVariants config;
+    private final ThreadPoolExecutor workers;
+    private final Cache<String, List<Integer>> storedWidths;
+
+    ImageVariantService(
+            FileStorageService fileStorageService,
+            ImageVariantsRepository imageVariantsRepository,
+            ApplicationProperties properties,
+            MeterRegistry meterRegistry) {
+        this.fileStorageService = fileStorageService;
+        this.imageVariantsRepository = imageVariantsRepository;
+        this.config = properties.imageVariants();
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(
+                config.maxConcurrency(),
+                config.maxConcurrency(),
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.queueCapacity()),
+                task -> new Thread(task, "image-variants-" + threads.incrementAndGet()),
+                // a full queue slows down uploads instead of dropping variants
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        meterRegistry.gauge("catalog.image.variants.queue.size", workers, w -> w.getQueue().size());
+        // image names are content addressed, so the variants stored for one never change once they are recorded
+        this.storedWidths = Caffeine.newBuilder()
+                .maximumSize(config.storedCacheMaximumSize())
+                .expireAfterWrite(config.storedCacheTtl())
+                .build();
+    }
+
+    static boolean supportsVariants(String imageName) {
+        return ImageIO.getImageReadersBySuffix(extension(imageName)).hasNext();
+    }
+
+    static String variantName(String imageName, int width) {
+        int dot = imageName.lastIndexOf('.');
+        String baseName = dot < 0 ? imageName : imageName.substring(0, dot);
+        return "variants/" + width + "/" + baseName + ".jpg";
+    }
+
+    // widths are recorded in image_variants once every width was attempted, all images of a page in one query.
+    // Images without a record yet are not cached, their variants may still be being written
+    Map<String, List<Integer>> storedWidths(Collection<String> imageNames) {
+        try {
+            return storedWidths.getAll(imageNames, names -> imageVariantsRepository
+                    .findAllById(List.<String>copyOf(names))
+                    .stream()
+                    .collect(Collectors.toMap(ImageVariantsEntity::getImage, ImageVariantsEntity::getWidths)));
+        } catch (RuntimeException e) {
+            log.warn("Could not look up image variants for {}", imageNames, e);
+            return Map.of();
+        }
+    }
+
+    // stores every configured width as JPEG, content that cannot be decoded gets no variants
+    void createVariants(String imageName) {
+        Set<Integer> stored = ConcurrentHashMap.newKeySet();
+        CompletableFuture<Void> variants = CompletableFuture.supplyAsync(() -> decode(imageName), workers)
+                .thenCompose(image -> image == null
+                        ? CompletableFuture.completedFuture(null)
+                        : CompletableFuture.allOf(config.widths().stream()
+                                .map(width -> CompletableFuture.runAsync(
+                                        () -> {
+                                            storeVariant(imageName, image, width);
+                                            stored.add(width);
+                                        },
+                                        workers))
+                                .toArray(CompletableFuture[]::new)))
+                // every width has finished by now, the ones that failed are not advertised. Nothing is recorded
+                // when the original could not be read or no width was stored, the image just has no variants
+                .handle((ignored, e) -> {
+                    if (e != null) {
+                        log.warn("Failed to create image variants for {}", imageName, e);
+                    }
+                    if (e == null || !stored.isEmpty()) {
+                        recordStoredWidths(imageName, stored);
+                    }
+                    return null;
+                });
+        try {
+            variants.get(config.timeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            // the widths are recorded once the variants still being written have finished
+            log.warn("Image variants for {} did not complete within {}", imageName, config.timeout());
+        } catch (ExecutionException e) {
+            log.warn("Failed to record image variants for {}", imageName, e.getCause());
+        }
+    }
+
+    private void recordStoredWidths(String imageName, Set<Integer> stored) {
+        List<Integer> widths = config.widths().stream().filter(stored::contains).toList();
+        imageVariantsRepository.save(new ImageVariantsEntity(imageName, widths));
+        storedWidths.put(imageName, widths);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    // subsampled while decoding the stored original, so a large image is never fully materialised for small variants
+    private BufferedImage decode(String imageName) {
+        int maxWidth = Collections.max(config.widths());
+        InputStream original = fileStorageService.download(imageName);
+        try (original; ImageInputStream input = new MemoryCacheImageInputStream(original)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int subsampling = Math.max(1, reader.getWidth(0) / maxWidth);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Could not decode image {}", imageName, e);
+            return null;
+        }
+    }
+
+    private void storeVariant(String imageName, BufferedImage image, int width) {
+        try (InputStream content = new ByteArrayInputStream(encode(resize(image, width)))) {
+            fileStorageService.upload(variantName(imageName, width), content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage image, int width) {
+        int targetWidth = Math.min(width, image.getWidth());
+        int targetHeight = Math.max(1, Math.round((float) image.getHeight() * targetWidth / image.getWidth()));
+        // JPEG has no alpha channel, transparent areas become white
+        BufferedImage resized = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, targetWidth, targetHeight, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(config.jpegQuality());
+        param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String extension(String imageName) {
+        int dot = imageName.lastIndexOf('.');
+        return dot < 0 ? "" : imageName.substring(dot + 1).toLowerCase();
+    }
+}
@@ -0,0 +1,35 @@
+package com.testcontainers.catalog.domain.internal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.List;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+@Entity
+@Table(name = "image_variants")
+class ImageVariantsEntity {
+    @Id
+    private String image;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(nullable = false)
+    private Integer[] widths;
+
+    public ImageVariantsEntity() {}
+
+    ImageVariantsEntity(String image, List<Integer> widths) {
+        this.image = image;
+        this.widths = widths.toArray(Integer[]::new);
+    }
+
+    public String getImage() {
+        return image;
+    }
+
+    public List<Integer> getWidths() {
+        return List.of(widths);
+    }
+}
@@ -0,0 +1,5 @@
+package com.testcontainers.catalog.domain.internal;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+interface ImageVariantsRepository extends JpaRepository<ImageVariantsEntity, String> {}
@@ -0,0 +1,154 @@
+package com.testcontainers.catalog.domain.internal;
+
+import io.awspring.cloud.s3.ObjectMetadata;
+import io.awspring.cloud.s3.S3OutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+// the content headers and user metadata are stored with the object, ACL, encryption and tagging settings are not
+class MultipartS3OutputStream extends S3OutputStream {
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String key;
+    private final String contentType;
+    private final ObjectMetadata metadata;
+    private final byte[] buffer;
+    private final List<CompletedPart> completedParts = new ArrayList<>();
+    private int position;
+    private String uploadId;
+    private boolean closed;
+
+    MultipartS3OutputStream(
+            S3Client s3Client,
+            String bucket,
+            String key,
+            int partSize,
+            @Nullable String contentType,
+            @Nullable ObjectMetadata metadata) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.key = key;
+        this.contentType = contentType;
+        this.metadata = metadata != null ? metadata : ObjectMetadata.builder().build();
+        this.buffer = new byte[partSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (position == buffer.length) {
+            uploadPart();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (position == buffer.length) {
+                uploadPart();
+            }
+            int count = Math.min(len, buffer.length - position);
+            System.arraycopy(b, off, buffer, position, count);
+            position += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (uploadId == null) {
+            s3Client.putObject(
+                    b -> applyMetadata(b.bucket(bucket).key(key)).contentLength((long) position), bufferedContent());
+            return;
+        }
+        if (position > 0) {
+            uploadPart();
+        }
+        try {
+            s3Client.completeMultipartUpload(b -> b.bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(u -> u.parts(completedParts)));
+        } catch (RuntimeException e) {
+            abort();
+            throw new IOException("Failed to complete multipart upload of " + key, e);
+        }
+    }
+
+    private void uploadPart() throws IOException {
+        try {
+            if (uploadId == null) {
+                uploadId = s3Client.createMultipartUpload(b -> applyMetadata(b.bucket(bucket).key(key)))
+                        .uploadId();
+            }
+            int partNumber = completedParts.size() + 1;
+            UploadPartRequest request = UploadPartRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .partNumber(partNumber)
+                    .contentLength((long) position)
+                    .build();
+            String eTag = s3Client.uploadPart(request, bufferedContent()).eTag();
+            completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+            position = 0;
+        } catch (RuntimeException e) {
+            abort();
+            throw new IOException("Failed to upload part of " + key, e);
+        }
+    }
+
+    private PutObjectRequest.Builder applyMetadata(PutObjectRequest.Builder builder) {
+        return builder.contentType(contentType)
+                .cacheControl(metadata.getCacheControl())
+                .contentDisposition(metadata.getContentDisposition())
+                .contentEncoding(metadata.getContentEncoding())
+                .contentLanguage(metadata.getContentLanguage())
+                .metadata(metadata.getMetadata());
+    }
+
+    private CreateMultipartUploadRequest.Builder applyMetadata(CreateMultipartUploadRequest.Builder builder) {
+        return builder.contentType(contentType)
+                .cacheControl(metadata.getCacheControl())
+                .contentDisposition(metadata.getContentDisposition())
+                .contentEncoding(metadata.getContentEncoding())
+                .contentLanguage(metadata.getContentLanguage())
+                .metadata(metadata.getMetadata());
+    }
+
+    private RequestBody bufferedContent() {
+        return RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, position), position);
+    }
+
+    // discards everything written so far, close() must not be relied on when the source failed part way
+    void abort() {
+        closed = true;
+        if (uploadId != null) {
+            String aborted = uploadId;
+            uploadId = null;
+            s3Client.abortMultipartUpload(b -> b.bucket(bucket).key(key).uploadId(aborted));
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream for " + key + " is closed");
+        }
+    }
+}
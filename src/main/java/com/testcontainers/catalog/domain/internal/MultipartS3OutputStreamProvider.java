@@ -0,0 +1,35 @@
+package com.testcontainers.catalog.domain.internal;
+
+import io.awspring.cloud.s3.ObjectMetadata;
+import io.awspring.cloud.s3.S3ObjectContentTypeResolver;
+import io.awspring.cloud.s3.S3OutputStreamProvider;
+import javax.annotation.Nullable;
+import software.amazon.awssdk.services.s3.S3Client;
+
+// like the default provider, the content type is resolved from the key when the metadata does not set one
+class MultipartS3OutputStreamProvider implements S3OutputStreamProvider {
+    // S3 rejects every part but the last one when it is smaller than this
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final S3ObjectContentTypeResolver contentTypeResolver;
+    private final int partSize;
+
+    MultipartS3OutputStreamProvider(S3Client s3Client, S3ObjectContentTypeResolver contentTypeResolver, int partSize) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException(
+                    "Multipart part size must be at least " + MIN_PART_SIZE + " bytes but was " + partSize);
+        }
+        this.s3Client = s3Client;
+        this.contentTypeResolver = contentTypeResolver;
+        this.partSize = partSize;
+    }
+
+    @Override
+    public MultipartS3OutputStream create(String bucket, String key, @Nullable ObjectMetadata metadata) {
+        String contentType = metadata != null && metadata.getContentType() != null
+                ? metadata.getContentType()
+                : contentTypeResolver.resolveContentType(key);
+        return new MultipartS3OutputStream(s3Client, bucket, key, partSize, contentType, metadata);
+    }
+}
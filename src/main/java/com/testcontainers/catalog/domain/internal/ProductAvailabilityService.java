@@ -0,0 +1,150 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.clients.inventory.InventoryServiceClient;
+import com.testcontainers.catalog.clients.inventory.InventoryUnavailableException;
+import com.testcontainers.catalog.metrics.RequestTimings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+@Service
+class ProductAvailabilityService {
+    private static final Logger log = LoggerFactory.getLogger(ProductAvailabilityService.class);
+
+    private final InventoryServiceClient inventoryServiceClient;
+    private final ApplicationProperties properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final MeterRegistry meterRegistry;
+
+    public ProductAvailabilityService(
+            InventoryServiceClient inventoryServiceClient,
+            ApplicationProperties properties,
+            MeterRegistry meterRegistry) {
+        this.inventoryServiceClient = inventoryServiceClient;
+        this.properties = properties;
+        this.permits = new Semaphore(properties.inventory().maxConcurrency());
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isProductAvailable(String code) {
+        try {
+            return inventoryServiceClient.getInventory(code).quantity() > 0;
+        } catch (InventoryUnavailableException e) {
+            log.debug("Skipped inventory lookup for product {}: {}", code, e.getMessage());
+            countFallback("unavailable", 1);
+            return true;
+        } catch (Exception e) {
+            log.error("Error while calling inventory service", e);
+            // business decision is to show as available if inventory service is down
+            countFallback("error", 1);
+            return true;
+        }
+    }
+
+    public Map<String, Boolean> getProductsAvailability(List<String> codes) {
+        return switch (properties.inventory().lookupMode()) {
+            case BATCH -> getProductsAvailabilityInBatches(codes);
+            case CONCURRENT -> getProductsAvailabilityConcurrently(codes);
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Map<String, Boolean> getProductsAvailabilityInBatches(List<String> codes) {
+        Map<String, Boolean> availability = new HashMap<>();
+        int batchSize = properties.inventory().batchSize();
+        for (int from = 0; from < codes.size(); from += batchSize) {
+            List<String> batch = codes.subList(from, Math.min(from + batchSize, codes.size()));
+            try {
+                inventoryServiceClient
+                        .getInventories(batch)
+                        .forEach(inventory -> availability.put(inventory.code(), inventory.quantity() > 0));
+            } catch (InventoryUnavailableException e) {
+                log.debug("Skipped inventory lookup for {} products: {}", batch.size(), e.getMessage());
+                countFallback("unavailable", batch.size());
+            } catch (Exception e) {
+                log.error("Error while calling inventory service for {} products", batch.size(), e);
+                countFallback("error", batch.size());
+            }
+        }
+        // business decision is to show as available if inventory service is down or does not know the product
+        codes.forEach(code -> availability.putIfAbsent(code, true));
+        return availability;
+    }
+
+    private Map<String, Boolean> getProductsAvailabilityConcurrently(List<String> codes) {
+        Map<String, CompletableFuture<Boolean>> lookups = new LinkedHashMap<>();
+        for (String code : codes) {
+            lookups.computeIfAbsent(code, this::lookupAvailabilityAsync);
+        }
+        Map<String, Boolean> availability = new HashMap<>();
+        lookups.forEach((code, lookup) -> availability.put(code, lookup.join()));
+        return availability;
+    }
+
+    // one deadline covers waiting for a permit and the lookup; a lookup past it is answered with the fallback but
+    // keeps its permit until the call returns, which the inventory HTTP client's socket timeout bounds
+    private CompletableFuture<Boolean> lookupAvailabilityAsync(String code) {
+        long timeoutMillis = properties.inventory().timeout().toMillis();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        AtomicBoolean permitted = new AtomicBoolean();
+        executor.execute(RequestTimings.propagate(() -> lookUpWithPermit(code, deadline, permitted, result)));
+        CompletableFuture.delayedExecutor(timeoutMillis, TimeUnit.MILLISECONDS)
+                .execute(() -> fallBack(code, permitted.get() ? "timeout" : "saturated", result));
+        return result;
+    }
+
+    private void lookUpWithPermit(
+            String code, long deadline, AtomicBoolean permitted, CompletableFuture<Boolean> result) {
+        try {
+            if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                fallBack(code, "saturated", result);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.complete(true);
+            return;
+        }
+        permitted.set(true);
+        try {
+            result.complete(isProductAvailable(code));
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void fallBack(String code, String reason, CompletableFuture<Boolean> result) {
+        if (result.complete(true)) {
+            log.warn("Inventory lookup for product {} did not complete before its deadline: {}", code, reason);
+            countFallback(reason, 1);
+        }
+    }
+
+    private void countFallback(String reason, int products) {
+        Counter.builder("catalog.inventory.fallback")
+                .description("Products reported as available because their inventory could not be looked up")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment(products);
+    }
+}
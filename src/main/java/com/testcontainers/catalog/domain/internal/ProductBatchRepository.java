@@ -0,0 +1,14 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.testcontainers.catalog.domain.models.CreateProductRequest;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+interface ProductBatchRepository {
+    void updateProductImages(Map<String, String> imagesByCode);
+
+    List<UpsertedProduct> upsertProducts(Collection<CreateProductRequest> products, boolean updateExisting);
+
+    record UpsertedProduct(String code, boolean inserted) {}
+}
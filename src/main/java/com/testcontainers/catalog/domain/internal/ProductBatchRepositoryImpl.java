@@ -0,0 +1,81 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.testcontainers.catalog.domain.models.CreateProductRequest;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class ProductBatchRepositoryImpl implements ProductBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    ProductBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void updateProductImages(Map<String, String> imagesByCode) {
+        if (imagesByCode.isEmpty()) {
+            return;
+        }
+        String[] codes = imagesByCode.keySet().toArray(String[]::new);
+        String[] images = imagesByCode.values().toArray(String[]::new);
+        jdbcTemplate.update(
+                """
+                update products p set image = u.image
+                from unnest(?::varchar[], ?::varchar[]) as u(code, image)
+                where p.code = u.code
+                """,
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("varchar", codes));
+                    ps.setArray(2, ps.getConnection().createArrayOf("varchar", images));
+                });
+    }
+
+    @Override
+    public List<UpsertedProduct> upsertProducts(Collection<CreateProductRequest> products, boolean updateExisting) {
+        if (products.isEmpty()) {
+            return List.of();
+        }
+        Long[] ids = allocateIds(products.size());
+        String[] codes = products.stream().map(CreateProductRequest::code).toArray(String[]::new);
+        String[] names = products.stream().map(CreateProductRequest::name).toArray(String[]::new);
+        String[] descriptions =
+                products.stream().map(CreateProductRequest::description).toArray(String[]::new);
+        BigDecimal[] prices = products.stream().map(CreateProductRequest::price).toArray(BigDecimal[]::new);
+        String onConflict = updateExisting
+                ? "do update set name = excluded.name, description = excluded.description, price = excluded.price"
+                : "do nothing";
+        // xmax is 0 only for rows inserted by this statement
+        return jdbcTemplate.query(
+                """
+                insert into products(id, code, name, description, price)
+                select * from unnest(?::bigint[], ?::varchar[], ?::varchar[], ?::varchar[], ?::numeric[])
+                on conflict (code) %s
+                returning code, (xmax = 0) as inserted
+                """
+                        .formatted(onConflict),
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids));
+                    ps.setArray(2, ps.getConnection().createArrayOf("varchar", codes));
+                    ps.setArray(3, ps.getConnection().createArrayOf("varchar", names));
+                    ps.setArray(4, ps.getConnection().createArrayOf("varchar", descriptions));
+                    ps.setArray(5, ps.getConnection().createArrayOf("numeric", prices));
+                },
+                (rs, rowNum) -> new UpsertedProduct(rs.getString("code"), rs.getBoolean("inserted")));
+    }
+
+    // the column default would take a whole block of the pooled sequence per row, like Hibernate's pooled-lo
+    // optimizer each nextval value here is the first id of a block of ID_ALLOCATION_SIZE ids
+    private Long[] allocateIds(int count) {
+        int blocks = (count + ProductEntity.ID_ALLOCATION_SIZE - 1) / ProductEntity.ID_ALLOCATION_SIZE;
+        List<Long> blockStarts = jdbcTemplate.queryForList(
+                "select nextval('products_id_seq') from generate_series(1, ?)", Long.class, blocks);
+        Long[] ids = new Long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = blockStarts.get(i / ProductEntity.ID_ALLOCATION_SIZE) + i % ProductEntity.ID_ALLOCATION_SIZE;
+        }
+        return ids;
+    }
+}
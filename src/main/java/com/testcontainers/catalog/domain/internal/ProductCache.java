@@ -0,0 +1,49 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.testcontainers.catalog.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+class ProductCache {
+    private final ApplicationProperties.ProductCache config;
+    private final Cache<String, ProductView> cache;
+
+    ProductCache(ApplicationProperties properties, MeterRegistry meterRegistry) {
+        this.config = properties.productCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.maximumSize())
+                .expireAfterWrite(config.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "products");
+    }
+
+    Optional<ProductView> get(String code, Function<String, Optional<ProductView>> loader) {
+        if (!config.enabled()) {
+            return loader.apply(code);
+        }
+        // missing products are not cached, a concurrent evict waits for an in-flight load and then removes it
+        return Optional.ofNullable(cache.get(code, c -> loader.apply(c).orElse(null)));
+    }
+
+    void evict(String code) {
+        cache.invalidate(code);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // readers may have reloaded the old row before the surrounding transaction commits
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(code);
+                }
+            });
+        }
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotEmpty;
@@ -14,8 +15,12 @@ import java.math.BigDecimal;
 @Entity
 @Table(name = "products")
 class ProductEntity {
+    // must match the increment of products_id_seq, the bulk upsert allocates ids in the same blocks
+    static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_id_seq")
+    @SequenceGenerator(name = "products_id_seq", sequenceName = "products_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -31,6 +36,10 @@ class ProductEntity {
     @NotNull(message = "Product price must not be null") @DecimalMin("0.1") @Column(nullable = false)
     private BigDecimal price;
 
+    // maintained by the products_next_version trigger
+    @Column(insertable = false, updatable = false)
+    private long version;
+
     public ProductEntity() {}
 
     public ProductEntity(Long id, String code, String name, String description, String image, BigDecimal price) {
@@ -89,4 +98,8 @@ class ProductEntity {
     public void setPrice(BigDecimal price) {
         this.price = price;
     }
+
+    public long getVersion() {
+        return version;
+    }
 }
@@ -0,0 +1,50 @@
+package com.testcontainers.catalog.domain.internal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+@Entity
+@Table(name = "product_events_outbox")
+class ProductEventOutboxEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String code;
+
+    @Column(nullable = false)
+    private String image;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public ProductEventOutboxEntity() {}
+
+    public ProductEventOutboxEntity(String code, String image) {
+        this.code = code;
+        this.image = image;
+        this.createdAt = Instant.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getImage() {
+        return image;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
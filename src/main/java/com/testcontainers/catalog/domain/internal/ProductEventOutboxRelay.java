@@ -0,0 +1,90 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.domain.models.ProductImageUploadedEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "application.outbox.enabled", havingValue = "true", matchIfMissing = true)
+class ProductEventOutboxRelay {
+    private static final Logger log = LoggerFactory.getLogger(ProductEventOutboxRelay.class);
+
+    private final ProductEventOutboxRepository outboxRepository;
+    private final ProductEventPublisher productEventPublisher;
+    private final ApplicationProperties properties;
+
+    ProductEventOutboxRelay(
+            ProductEventOutboxRepository outboxRepository,
+            ProductEventPublisher productEventPublisher,
+            ApplicationProperties properties) {
+        this.outboxRepository = outboxRepository;
+        this.productEventPublisher = productEventPublisher;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${application.outbox.poll-interval}")
+    void relay() {
+        int batchSize = properties.outbox().batchSize();
+        // a batch holds one row per product, so a backlog for a few products arrives in small batches
+        int relayed;
+        do {
+            relayed = relayBatch(batchSize);
+        } while (relayed > 0);
+    }
+
+    // leasing and deleting are two short transactions, events are sent while no connection is held
+    private int relayBatch(int batchSize) {
+        List<ProductEventOutboxEntity> batch = outboxRepository.leaseNextBatch(
+                batchSize, properties.outbox().leaseDuration().toSeconds());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<?>> sends = batch.stream().map(this::send).toList();
+        Exception failure = null;
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(properties.events().sendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = e;
+        } catch (ExecutionException | TimeoutException e) {
+            failure = e;
+        }
+        // a batch never holds two rows of the same product, so acknowledged rows can go regardless of their
+        // position; the others are released and relayed again on the next poll, ahead of later rows of their product
+        List<ProductEventOutboxEntity> relayed = new ArrayList<>();
+        List<Long> unacknowledged = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            CompletableFuture<?> send = sends.get(i);
+            if (send.isDone() && !send.isCompletedExceptionally()) {
+                relayed.add(batch.get(i));
+            } else {
+                unacknowledged.add(batch.get(i).getId());
+            }
+        }
+        if (!relayed.isEmpty()) {
+            outboxRepository.deleteAllInBatch(relayed);
+        }
+        if (!unacknowledged.isEmpty()) {
+            outboxRepository.releaseLeases(unacknowledged);
+            throw new ProductEventPublishException(
+                    "Failed to relay " + unacknowledged.size() + " of " + batch.size() + " outbox events", failure);
+        }
+        log.debug("Relayed {} product events from the outbox", batch.size());
+        return batch.size();
+    }
+
+    private CompletableFuture<?> send(ProductEventOutboxEntity entry) {
+        return productEventPublisher.send(new ProductImageUploadedEvent(entry.getCode(), entry.getImage()));
+    }
+}
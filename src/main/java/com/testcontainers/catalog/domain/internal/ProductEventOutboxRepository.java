@@ -0,0 +1,37 @@
+package com.testcontainers.catalog.domain.internal;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+interface ProductEventOutboxRepository extends JpaRepository<ProductEventOutboxEntity, Long> {
+
+    // concurrent relays skip rows another instance is leasing, expired leases are picked up again.
+    // Only the oldest row of each product is eligible, a later one waits until it has been relayed and deleted
+    @Transactional
+    @Query(
+            value =
+                    """
+                    update product_events_outbox set leased_until = now() + make_interval(secs => :leaseSeconds)
+                    where id in (
+                        select o.id from product_events_outbox o
+                        where (o.leased_until is null or o.leased_until < now())
+                        and not exists (
+                            select 1 from product_events_outbox earlier
+                            where earlier.code = o.code and earlier.id < o.id)
+                        order by o.id limit :limit
+                        for update skip locked)
+                    returning *
+                    """,
+            nativeQuery = true)
+    List<ProductEventOutboxEntity> leaseNextBatch(@Param("limit") int limit, @Param("leaseSeconds") long leaseSeconds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "update product_events_outbox set leased_until = null where id in (:ids)", nativeQuery = true)
+    void releaseLeases(@Param("ids") Collection<Long> ids);
+}
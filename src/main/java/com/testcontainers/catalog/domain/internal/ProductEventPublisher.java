@@ -1,21 +1,106 @@
 package com.testcontainers.catalog.domain.internal;
 
 import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.domain.models.ProductCacheInvalidatedEvent;
 import com.testcontainers.catalog.domain.models.ProductImageUploadedEvent;
+import com.testcontainers.catalog.metrics.DependencyMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
 @Component
 class ProductEventPublisher {
+    private static final Logger log = LoggerFactory.getLogger(ProductEventPublisher.class);
+
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final ApplicationProperties properties;
+    private final DependencyMetrics dependencyMetrics;
+    private final AtomicInteger inFlight;
+    private final Counter acknowledged;
+    private final Counter failed;
 
-    public ProductEventPublisher(KafkaTemplate<String, Object> kafkaTemplate, ApplicationProperties properties) {
+    public ProductEventPublisher(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            ApplicationProperties properties,
+            MeterRegistry meterRegistry,
+            DependencyMetrics dependencyMetrics) {
         this.kafkaTemplate = kafkaTemplate;
         this.properties = properties;
+        this.dependencyMetrics = dependencyMetrics;
+        this.inFlight = meterRegistry.gauge("catalog.events.publish.in.flight", new AtomicInteger());
+        this.acknowledged = Counter.builder("catalog.events.publish")
+                .tag("outcome", "acknowledged")
+                .register(meterRegistry);
+        this.failed = Counter.builder("catalog.events.publish")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
     }
 
     public void publish(ProductImageUploadedEvent event) {
-        kafkaTemplate.send(properties.productImageUpdatesTopic(), event.code(), event);
+        CompletableFuture<SendResult<String, Object>> result = send(event);
+        if (!properties.events().awaitAcknowledgement()) {
+            return;
+        }
+        try {
+            result.get(properties.events().sendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProductEventPublishException("Interrupted while publishing event for " + event.code(), e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new ProductEventPublishException("Failed to publish event for " + event.code(), e);
+        }
+    }
+
+    CompletableFuture<SendResult<String, Object>> send(ProductImageUploadedEvent event) {
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<String, Object>> result;
+        try {
+            result = kafkaTemplate.send(properties.productImageUpdatesTopic(), event.code(), event);
+        } catch (RuntimeException e) {
+            onSendCompleted(event, start, e);
+            throw e;
+        }
+        return result.whenComplete((sendResult, e) -> onSendCompleted(event, start, e));
+    }
+
+    // best effort, a lost invalidation leaves other instances serving the old product until the cache ttl expires
+    void publishCacheInvalidation(ProductCacheInvalidatedEvent event) {
+        long start = System.nanoTime();
+        kafkaTemplate
+                .send(properties.productCache().invalidationsTopic(), event)
+                .whenComplete((sendResult, e) -> {
+                    dependencyMetrics.recordCompletion("kafka", "send", start, e);
+                    if (e != null) {
+                        log.warn("Failed to publish cache invalidation for codes: {}", event.codes(), e);
+                    }
+                });
+    }
+
+    // measured until the broker acknowledges the record
+    private void onSendCompleted(ProductImageUploadedEvent event, long start, Throwable e) {
+        inFlight.decrementAndGet();
+        dependencyMetrics.recordCompletion("kafka", "send", start, e);
+        if (e == null) {
+            acknowledged.increment();
+        } else {
+            failed.increment();
+            log.error("Failed to publish ProductImageUploaded event for code: {}", event.code(), e);
+        }
+    }
+}
+
+class ProductEventPublishException extends RuntimeException {
+    public ProductEventPublishException(String message, Throwable cause) {
+        super(message, cause);
     }
 }
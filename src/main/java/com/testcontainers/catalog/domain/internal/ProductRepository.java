@@ -1,14 +1,42 @@
 package com.testcontainers.catalog.domain.internal;
 
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-interface ProductRepository extends JpaRepository<ProductEntity, Long> {
+interface ProductRepository
+        extends JpaRepository<ProductEntity, Long>, ProductBatchRepository, ProductSearchRepository {
     Optional<ProductEntity> findByCode(String code);
 
+    // listings read DTOs straight from the result set, nothing is kept in the persistence context
+    @Transactional(readOnly = true)
+    @Query(
+            """
+            select new com.testcontainers.catalog.domain.internal.ProductView(
+                p.id, p.code, p.name, p.description, p.image, p.price, p.version)
+            from ProductEntity p order by p.id
+            """)
+    List<ProductView> findAllViews();
+
+    @Transactional(readOnly = true)
+    @Query(
+            """
+            select new com.testcontainers.catalog.domain.internal.ProductView(
+                p.id, p.code, p.name, p.description, p.image, p.price, p.version)
+            from ProductEntity p where p.id > :id order by p.id
+            """)
+    List<ProductView> findViewsAfterId(@Param("id") Long id, Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query("select coalesce(max(p.version), 0) from ProductEntity p")
+    long findMaxVersion();
+
+    @Transactional
     @Modifying
     @Query("update ProductEntity p set p.image = :image where p.code = :code")
     void updateProductImage(@Param("code") String code, @Param("image") String image);
@@ -0,0 +1,14 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.testcontainers.catalog.domain.models.ProductSearchCriteria;
+import com.testcontainers.catalog.domain.models.ProductSearchCursor;
+import java.util.List;
+import javax.annotation.Nullable;
+
+interface ProductSearchRepository {
+    // availability is not stored in the database, it is filtered by the caller
+    List<ProductSearchHit> searchProducts(
+            ProductSearchCriteria criteria, @Nullable ProductSearchCursor after, int limit);
+
+    record ProductSearchHit(ProductView product, ProductSearchCursor cursor) {}
+}
@@ -0,0 +1,66 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.testcontainers.catalog.domain.models.ProductSearchCriteria;
+import com.testcontainers.catalog.domain.models.ProductSearchCursor;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StringUtils;
+
+class ProductSearchRepositoryImpl implements ProductSearchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    ProductSearchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // matches come from the GIN index on search_vector, price ranges alone use the price index
+    @Override
+    public List<ProductSearchHit> searchProducts(
+            ProductSearchCriteria criteria, @Nullable ProductSearchCursor after, int limit) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder matches = new StringBuilder("select id, code, name, description, image, price, version, ");
+        if (StringUtils.hasText(criteria.query())) {
+            matches.append(
+                    """
+                    ts_rank_cd(search_vector, query) as rank
+                    from products, websearch_to_tsquery('english', ?) query
+                    where search_vector @@ query
+                    """);
+            args.add(criteria.query());
+        } else {
+            matches.append("0::real as rank from products where true");
+        }
+        if (criteria.minPrice() != null) {
+            matches.append(" and price >= ?");
+            args.add(criteria.minPrice());
+        }
+        if (criteria.maxPrice() != null) {
+            matches.append(" and price <= ?");
+            args.add(criteria.maxPrice());
+        }
+        StringBuilder sql = new StringBuilder("select * from (").append(matches).append(") p");
+        if (after != null) {
+            sql.append(" where p.rank < ? or (p.rank = ? and p.id > ?)");
+            args.add(after.rank());
+            args.add(after.rank());
+            args.add(after.id());
+        }
+        sql.append(" order by p.rank desc, p.id limit ?");
+        args.add(limit);
+        return jdbcTemplate.query(
+                sql.toString(),
+                (rs, rowNum) -> new ProductSearchHit(
+                        new ProductView(
+                                rs.getLong("id"),
+                                rs.getString("code"),
+                                rs.getString("name"),
+                                rs.getString("description"),
+                                rs.getString("image"),
+                                rs.getBigDecimal("price"),
+                                rs.getLong("version")),
+                        new ProductSearchCursor(rs.getFloat("rank"), rs.getLong("id"))),
+                args.toArray());
+    }
+}
@@ -0,0 +1,18 @@
+package com.testcontainers.catalog.domain.internal;
+
+import java.math.BigDecimal;
+
+record ProductView(
+        Long id, String code, String name, String description, String image, BigDecimal price, long version) {
+
+    static ProductView of(ProductEntity entity) {
+        return new ProductView(
+                entity.getId(),
+                entity.getCode(),
+                entity.getName(),
+                entity.getDescription(),
+                entity.getImage(),
+                entity.getPrice(),
+                entity.getVersion());
+    }
+}
@@ -1,25 +1,56 @@
 package com.testcontainers.catalog.domain.internal;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.testcontainers.catalog.ApplicationProperties;
 import com.testcontainers.catalog.domain.FileStorageService;
+import com.testcontainers.catalog.metrics.DependencyMetrics;
 import io.awspring.cloud.s3.S3Template;
+import java.io.IOException;
 import java.io.InputStream;
-import java.time.Duration;
+import java.io.UncheckedIOException;
 import java.util.Objects;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
 @Service
 class S3FileStorageService implements FileStorageService {
     private static final Logger log = LoggerFactory.getLogger(S3FileStorageService.class);
     private final S3Template s3Template;
+    private final S3Client s3Client;
+    private final MultipartS3OutputStreamProvider outputStreamProvider;
     private final ApplicationProperties properties;
+    private final DependencyMetrics dependencyMetrics;
+    private final LoadingCache<SignedUrlKey, String> preSignedUrls;
 
-    public S3FileStorageService(S3Template s3Template, ApplicationProperties properties) {
+    public S3FileStorageService(
+            S3Template s3Template,
+            S3Client s3Client,
+            MultipartS3OutputStreamProvider outputStreamProvider,
+            ApplicationProperties properties,
+            DependencyMetrics dependencyMetrics) {
         this.s3Template = s3Template;
+        this.s3Client = s3Client;
+        this.outputStreamProvider = outputStreamProvider;
         this.properties = properties;
+        this.dependencyMetrics = dependencyMetrics;
+        ApplicationProperties.Storage storage = properties.storage();
+        // refreshed in the background ahead of expiry, evicted while the URL is still valid for signedUrlMinValidity
+        this.preSignedUrls = Caffeine.newBuilder()
+                .maximumSize(storage.signedUrlCacheMaximumSize())
+                .refreshAfterWrite(storage.signedUrlTtl().minus(storage.signedUrlRefreshBeforeExpiry()))
+                .expireAfterWrite(storage.signedUrlTtl().minus(storage.signedUrlMinValidity()))
+                .build(key -> dependencyMetrics.record("s3", "createSignedGetURL", () -> s3Template
+                        .createSignedGetURL(key.bucketName(), key.filename(), storage.signedUrlTtl())
+                        .toString()));
     }
 
     public void createBucket(String bucketName) {
@@ -29,7 +60,7 @@ class S3FileStorageService implements FileStorageService {
     public void upload(String filename, @Nullable InputStream inputStream) {
         log.debug("Uploading file to S3");
         try {
-            s3Template.upload(properties.productImagesBucketName(), filename, Objects.requireNonNull(inputStream), null);
+            dependencyMetrics.record("s3", "upload", () -> write(filename, Objects.requireNonNull(inputStream)));
             log.debug("File uploaded to S3");
         } catch (Exception e) {
             log.error(
@@ -45,11 +76,67 @@ class S3FileStorageService implements FileStorageService {
         }
     }
 
+    // S3Template.upload closes, and so commits, the object even when reading the input failed part way
+    private void write(String filename, InputStream inputStream) {
+        MultipartS3OutputStream outputStream =
+                outputStreamProvider.create(properties.productImagesBucketName(), filename, null);
+        try {
+            inputStream.transferTo(outputStream);
+            outputStream.close();
+        } catch (IOException e) {
+            outputStream.abort();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            outputStream.abort();
+            throw e;
+        }
+    }
+
+    public boolean exists(String filename) {
+        HeadObjectRequest request = HeadObjectRequest.builder()
+                .bucket(properties.productImagesBucketName())
+                .key(filename)
+                .build();
+        try {
+            dependencyMetrics.record("s3", "exists", () -> s3Client.headObject(request));
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
+    // a server-side copy, the content is not transferred again
+    public void copy(String sourceFilename, String targetFilename) {
+        CopyObjectRequest request = CopyObjectRequest.builder()
+                .sourceBucket(properties.productImagesBucketName())
+                .sourceKey(sourceFilename)
+                .destinationBucket(properties.productImagesBucketName())
+                .destinationKey(targetFilename)
+                .build();
+        dependencyMetrics.record("s3", "copy", () -> s3Client.copyObject(request));
+    }
+
+    public InputStream download(String filename) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(properties.productImagesBucketName())
+                .key(filename)
+                .build();
+        return dependencyMetrics.record("s3", "download", () -> s3Client.getObject(request));
+    }
+
+    public void delete(String filename) {
+        DeleteObjectRequest request = DeleteObjectRequest.builder()
+                .bucket(properties.productImagesBucketName())
+                .key(filename)
+                .build();
+        dependencyMetrics.record("s3", "delete", () -> s3Client.deleteObject(request));
+    }
+
     public String getPreSignedURL(String filename) {
-        return s3Template
-                .createSignedGetURL(properties.productImagesBucketName(), filename, Duration.ofMinutes(60))
-                .toString();
+        return preSignedUrls.get(new SignedUrlKey(properties.productImagesBucketName(), filename));
     }
+
+    private record SignedUrlKey(String bucketName, String filename) {}
 }
 
 class S3FileStorageException extends RuntimeException {
@@ -0,0 +1,24 @@
+package com.testcontainers.catalog.domain.internal;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import io.awspring.cloud.s3.PropertiesS3ObjectContentTypeResolver;
+import io.awspring.cloud.s3.S3ObjectContentTypeResolver;
+import java.util.Optional;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.services.s3.S3Client;
+
+@Configuration
+class StorageConfig {
+
+    // replaces the default provider, which buffers the whole object in memory before uploading it
+    @Bean
+    MultipartS3OutputStreamProvider multipartS3OutputStreamProvider(
+            S3Client s3Client,
+            Optional<S3ObjectContentTypeResolver> contentTypeResolver,
+            ApplicationProperties properties) {
+        int partSize = Math.toIntExact(properties.storage().multipartPartSize().toBytes());
+        return new MultipartS3OutputStreamProvider(
+                s3Client, contentTypeResolver.orElseGet(PropertiesS3ObjectContentTypeResolver::new), partSize);
+    }
+}
@@ -0,0 +1,20 @@
+package com.testcontainers.catalog.domain.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record BulkProductResult(int inserted, int updated, int skipped, List<ItemError> errors) {
+
+    public record ItemError(int index, String code, String message) {}
+
+    public static BulkProductResult empty() {
+        return new BulkProductResult(0, 0, 0, List.of());
+    }
+
+    public BulkProductResult plus(BulkProductResult other) {
+        List<ItemError> allErrors = new ArrayList<>(errors);
+        allErrors.addAll(other.errors());
+        return new BulkProductResult(
+                inserted + other.inserted(), updated + other.updated(), skipped + other.skipped(), allErrors);
+    }
+}
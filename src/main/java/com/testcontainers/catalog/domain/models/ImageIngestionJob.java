@@ -0,0 +1,36 @@
+package com.testcontainers.catalog.domain.models;
+
+import java.time.Instant;
+
+public record ImageIngestionJob(
+        String id,
+        String code,
+        Status status,
+        String filename,
+        String error,
+        Instant submittedAt,
+        Instant completedAt) {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    public static ImageIngestionJob queued(String id, String code) {
+        return new ImageIngestionJob(id, code, Status.QUEUED, null, null, Instant.now(), null);
+    }
+
+    public ImageIngestionJob running() {
+        return new ImageIngestionJob(id, code, Status.RUNNING, null, null, submittedAt, null);
+    }
+
+    public ImageIngestionJob succeeded(String filename) {
+        return new ImageIngestionJob(id, code, Status.SUCCEEDED, filename, null, submittedAt, Instant.now());
+    }
+
+    public ImageIngestionJob failed(String error) {
+        return new ImageIngestionJob(id, code, Status.FAILED, null, error, submittedAt, Instant.now());
+    }
+}
@@ -0,0 +1,3 @@
+package com.testcontainers.catalog.domain.models;
+
+public record ImageUpload(String code, String image) {}
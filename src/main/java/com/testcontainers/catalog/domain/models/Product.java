@@ -1,6 +1,19 @@
 package com.testcontainers.catalog.domain.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.math.BigDecimal;
+import java.util.Map;
 
+// imageVariants maps each width whose resized JPEG was stored to its pre-signed URL; image is the stored key
+// behind imageUrl and version changes on every write to the product, both are only exposed through the ETag
 public record Product(
-        Long id, String code, String name, String description, String imageUrl, BigDecimal price, boolean available) {}
+        Long id,
+        String code,
+        String name,
+        String description,
+        String imageUrl,
+        BigDecimal price,
+        boolean available,
+        Map<String, String> imageVariants,
+        @JsonIgnore String image,
+        @JsonIgnore long version) {}
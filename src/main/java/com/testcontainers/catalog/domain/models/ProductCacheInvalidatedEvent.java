@@ -0,0 +1,5 @@
+package com.testcontainers.catalog.domain.models;
+
+import java.util.List;
+
+public record ProductCacheInvalidatedEvent(List<String> codes) {}
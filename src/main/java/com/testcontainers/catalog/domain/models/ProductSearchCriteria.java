@@ -0,0 +1,6 @@
+package com.testcontainers.catalog.domain.models;
+
+import java.math.BigDecimal;
+
+// every criterion is optional, null means not filtered
+public record ProductSearchCriteria(String query, BigDecimal minPrice, BigDecimal maxPrice, Boolean available) {}
@@ -0,0 +1,24 @@
+package com.testcontainers.catalog.domain.models;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// position after the last returned result, results are ordered by rank descending and then by id
+public record ProductSearchCursor(float rank, long id) {
+
+    public static ProductSearchCursor decode(String cursor) {
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = decoded.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid search cursor: " + cursor);
+        }
+        return new ProductSearchCursor(
+                Float.parseFloat(decoded.substring(0, separator)), Long.parseLong(decoded.substring(separator + 1)));
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((rank + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
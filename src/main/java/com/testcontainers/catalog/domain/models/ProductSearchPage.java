@@ -0,0 +1,6 @@
+package com.testcontainers.catalog.domain.models;
+
+import java.util.List;
+
+// next is null once there are no further results
+public record ProductSearchPage(List<Product> products, ProductSearchCursor next) {}
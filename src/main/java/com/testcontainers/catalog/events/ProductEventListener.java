@@ -1,7 +1,11 @@
 package com.testcontainers.catalog.events;
 
 import com.testcontainers.catalog.domain.ProductService;
+import com.testcontainers.catalog.domain.models.ProductCacheInvalidatedEvent;
 import com.testcontainers.catalog.domain.models.ProductImageUploadedEvent;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -19,9 +23,23 @@ class ProductEventListener {
         this.productService = productService;
     }
 
-    @KafkaListener(topics = "${application.product-image-updates-topic}", groupId = "catalog-service")
-    public void handle(ProductImageUploadedEvent event) {
-        log.info("Received a ProductImageUploaded with code:{}", event.code());
-        productService.updateProductImage(event.code(), event.image());
+    // batch size and wait are bounded by spring.kafka.consumer.max-poll-records, fetch-min-size and fetch-max-wait
+    @KafkaListener(topics = "${application.product-image-updates-topic}", groupId = "catalog-service", batch = "true")
+    public void handle(List<ProductImageUploadedEvent> events) {
+        log.info("Received {} ProductImageUploaded events", events.size());
+        // only the last image uploaded for a product in this batch needs to be written
+        Map<String, String> imagesByCode = new LinkedHashMap<>();
+        events.forEach(event -> imagesByCode.put(event.code(), event.image()));
+        productService.updateProductImages(imagesByCode);
+    }
+
+    // every instance joins its own consumer group so that all local product caches see the committed update;
+    // invalidations are fetched as soon as they arrive instead of waiting on the batch listener's fetch settings
+    @KafkaListener(
+            topics = "${application.product-cache.invalidations-topic}",
+            groupId = "catalog-service-cache-${random.uuid}",
+            properties = {"auto.offset.reset=latest", "fetch.min.bytes=1", "fetch.max.wait.ms=10"})
+    public void evictCachedProducts(ProductCacheInvalidatedEvent event) {
+        event.codes().forEach(productService::evictCachedProduct);
     }
 }
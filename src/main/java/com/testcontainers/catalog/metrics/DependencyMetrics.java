@@ -0,0 +1,51 @@
+package com.testcontainers.catalog.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DependencyMetrics {
+    static final String TIMER_NAME = "catalog.dependency";
+
+    private final MeterRegistry meterRegistry;
+
+    public DependencyMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T record(String dependency, String operation, Supplier<T> call) {
+        long start = System.nanoTime();
+        Throwable error = null;
+        try {
+            return call.get();
+        } catch (RuntimeException | Error e) {
+            error = e;
+            throw e;
+        } finally {
+            recordCompletion(dependency, operation, start, error);
+        }
+    }
+
+    public void record(String dependency, String operation, Runnable call) {
+        record(dependency, operation, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public void recordCompletion(String dependency, String operation, long startNanos, @Nullable Throwable error) {
+        long duration = System.nanoTime() - startNanos;
+        Timer.builder(TIMER_NAME)
+                .description("Time spent in calls to downstream dependencies")
+                .tag("dependency", dependency)
+                .tag("operation", operation)
+                .tag("outcome", error == null ? "success" : "error")
+                .register(meterRegistry)
+                .record(duration, TimeUnit.NANOSECONDS);
+        RequestTimings.addToCurrent(dependency, duration);
+    }
+}
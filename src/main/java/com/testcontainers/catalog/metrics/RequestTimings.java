@@ -0,0 +1,70 @@
+package com.testcontainers.catalog.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public final class RequestTimings {
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, LongAdder> nanosByDependency = new ConcurrentHashMap<>();
+
+    private RequestTimings() {}
+
+    static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void resume(RequestTimings timings) {
+        CURRENT.set(timings);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    static void addToCurrent(String dependency, long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.nanosByDependency
+                    .computeIfAbsent(dependency, d -> new LongAdder())
+                    .add(nanos);
+        }
+    }
+
+    // work handed to other threads keeps adding to the request it was started from
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return task;
+        }
+        return () -> {
+            RequestTimings previous = CURRENT.get();
+            CURRENT.set(timings);
+            try {
+                return task.get();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public static Runnable propagate(Runnable task) {
+        Supplier<Void> propagated = propagate(() -> {
+            task.run();
+            return null;
+        });
+        return propagated::get;
+    }
+
+    Map<String, Duration> snapshot() {
+        Map<String, Duration> snapshot = new TreeMap<>();
+        nanosByDependency.forEach((dependency, nanos) -> snapshot.put(dependency, Duration.ofNanos(nanos.sum())));
+        return snapshot;
+    }
+}
@@ -0,0 +1,125 @@
+package com.testcontainers.catalog.metrics;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+// per-request breakdown of the time spent in each dependency, calls made in parallel are summed up
+@Component
+class RequestTimingsFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(RequestTimingsFilter.class);
+
+    private static final String TIMINGS_ATTRIBUTE = RequestTimings.class.getName();
+
+    private final MeterRegistry meterRegistry;
+    private final Duration slowRequestThreshold;
+
+    RequestTimingsFilter(MeterRegistry meterRegistry, ApplicationProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.slowRequestThreshold = properties.metrics().slowRequestThreshold();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        RequestTimings timings = RequestTimings.start();
+        request.setAttribute(TIMINGS_ATTRIBUTE, timings);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTimings.clear();
+            if (request.isAsyncStarted()) {
+                // the response is written later on another thread, so the request is recorded once that completes
+                request.getAsyncContext().addListener(new RecordOnComplete(request, timings, start));
+            } else {
+                record(request, timings.snapshot(), Duration.ofNanos(System.nanoTime() - start));
+            }
+        }
+    }
+
+    // async processing started by Spring MVC, e.g. a StreamingResponseBody, keeps adding to the request
+    static CallableProcessingInterceptor asyncTimingsInterceptor() {
+        return new CallableProcessingInterceptor() {
+            @Override
+            public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+                Object timings = request.getAttribute(TIMINGS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                if (timings instanceof RequestTimings current) {
+                    RequestTimings.resume(current);
+                }
+            }
+
+            @Override
+            public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object result) {
+                RequestTimings.clear();
+            }
+        };
+    }
+
+    private void record(HttpServletRequest request, Map<String, Duration> breakdown, Duration elapsed) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        breakdown.forEach((dependency, time) -> Timer.builder("catalog.request.dependency")
+                .description("Time a single request spent in each downstream dependency")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .tag("dependency", dependency)
+                .register(meterRegistry)
+                .record(time));
+        if (elapsed.compareTo(slowRequestThreshold) > 0) {
+            log.warn(
+                    "Slow request {} {} took {} ms, dependencies: {}",
+                    request.getMethod(),
+                    uri,
+                    elapsed.toMillis(),
+                    breakdown.entrySet().stream()
+                            .map(entry -> entry.getKey() + "=" + entry.getValue().toMillis() + "ms")
+                            .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private class RecordOnComplete implements AsyncListener {
+        private final HttpServletRequest request;
+        private final RequestTimings timings;
+        private final long start;
+
+        RecordOnComplete(HttpServletRequest request, RequestTimings timings, long start) {
+            this.request = request;
+            this.timings = timings;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, timings.snapshot(), Duration.ofNanos(System.nanoTime() - start));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {}
+
+        @Override
+        public void onError(AsyncEvent event) {}
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {}
+    }
+}
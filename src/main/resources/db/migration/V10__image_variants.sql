@@ -0,0 +1,6 @@
+-- widths of the resized variants stored for an image, recorded once every width was attempted
+create table image_variants
+(
+    image  varchar   primary key,
+    widths integer[] not null
+);
@@ -0,0 +1,7 @@
+create table product_events_outbox
+(
+    id         bigserial primary key,
+    code       varchar     not null,
+    image      varchar     not null,
+    created_at timestamptz not null default now()
+);
@@ -0,0 +1,4 @@
+-- ids are allocated by Hibernate in blocks of 50 (pooled-lo), the column default keeps working for plain SQL inserts
+alter sequence products_id_seq increment by 50;
+
+select setval('products_id_seq', coalesce((select max(id) from products), 1));
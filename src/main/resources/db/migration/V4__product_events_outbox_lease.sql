@@ -0,0 +1,2 @@
+-- rows are leased by a relay instance while their events are sent, outside of any database transaction
+alter table product_events_outbox add column leased_until timestamptz;
@@ -0,0 +1,10 @@
+-- result of an image upload per Idempotency-Key, a repeated request is answered from here
+create table image_uploads
+(
+    idempotency_key varchar     primary key,
+    code            varchar     not null,
+    image           varchar     not null,
+    created_at      timestamptz not null default now()
+);
+
+create index image_uploads_created_at_idx on image_uploads (created_at);
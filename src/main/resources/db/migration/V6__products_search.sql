@@ -0,0 +1,9 @@
+-- name matches rank above description matches, the column is maintained by Postgres on every insert and update
+alter table products
+    add column search_vector tsvector generated always as (
+        setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')) stored;
+
+create index products_search_vector_idx on products using gin (search_vector);
+
+create index products_price_idx on products (price);
@@ -0,0 +1,25 @@
+-- every insert and update takes the next value of one sequence, so max(version) changes whenever any product changes
+create sequence products_version_seq;
+
+alter table products add column version bigint not null default nextval('products_version_seq');
+
+alter sequence products_version_seq owned by products.version;
+
+-- set by the database so that JPA saves, JPQL updates and the JDBC batch statements are all covered
+create function products_next_version() returns trigger as
+$$
+begin
+    new.version := nextval('products_version_seq');
+    return new;
+end
+$$ language plpgsql;
+
+create trigger products_next_version
+    before update on products
+    for each row
+    -- rewriting identical values, e.g. a repeated bulk upsert, keeps the version
+    when ((old.code, old.name, old.description, old.image, old.price)
+        is distinct from (new.code, new.name, new.description, new.image, new.price))
+execute function products_next_version();
+
+create index products_version_idx on products (version);
@@ -0,0 +1,2 @@
+-- only the oldest pending row of each product is leased, so later rows cannot overtake it
+create index product_events_outbox_code_id_idx on product_events_outbox (code, id);
@@ -0,0 +1,13 @@
+-- state of asynchronous image ingestion jobs, so a job can be polled on any instance
+create table image_ingestion_jobs
+(
+    id           varchar     primary key,
+    code         varchar     not null,
+    status       varchar     not null,
+    filename     varchar,
+    error        varchar,
+    submitted_at timestamptz not null,
+    completed_at timestamptz
+);
+
+create index image_ingestion_jobs_submitted_at_idx on image_ingestion_jobs (submitted_at);
@@ -12,7 +12,11 @@ import org.testcontainers.Testcontainers;
 @SpringBootTest(
         classes = Application.class,
         webEnvironment = RANDOM_PORT,
-        properties = {"spring.kafka.consumer.auto-offset-reset=earliest"})
+        properties = {
+            "spring.kafka.consumer.auto-offset-reset=earliest",
+            // tests reset the products table with @Sql behind the application's back
+            "application.product-cache.enabled=false"
+        })
 @Import(ContainersConfig.class)
 public abstract class BaseIntegrationTest {
 
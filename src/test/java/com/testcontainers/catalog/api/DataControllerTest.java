@@ -0,0 +1,66 @@
+package com.testcontainers.catalog.api;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+
+import com.testcontainers.catalog.BaseIntegrationTest;
+import com.testcontainers.catalog.domain.ProductService;
+import com.testcontainers.catalog.domain.models.CreateProductRequest;
+import io.restassured.http.ContentType;
+import java.math.BigDecimal;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+@Sql("/test-data.sql")
+class DataControllerTest extends BaseIntegrationTest {
+
+    @Autowired
+    ProductService productService;
+
+    @Test
+    void getDataShouldReturnPageWithNextLink() {
+        given().contentType(ContentType.JSON)
+                .when()
+                .get("/api/data?limit=2")
+                .then()
+                .statusCode(200)
+                .body("size()", is(2))
+                .header("Link", containsString("rel=\"next\""));
+    }
+
+    @Test
+    void getDataShouldReturnNotModifiedUntilAnyProductChanges() {
+        String eTag = given().when()
+                .get("/api/data")
+                .then()
+                .statusCode(200)
+                .header("ETag", startsWith("W/"))
+                .extract()
+                .header("ETag");
+
+        given().header("If-None-Match", eTag).when().get("/api/data").then().statusCode(304);
+
+        productService.createProduct(new CreateProductRequest(
+                UUID.randomUUID().toString(), "Product", null, new BigDecimal("10.0")));
+
+        given().header("If-None-Match", eTag).when().get("/api/data").then().statusCode(200);
+    }
+
+    @Test
+    void streamDataShouldWriteOneProductPerLine() {
+        String body = given().when()
+                .get("/api/data/stream")
+                .then()
+                .statusCode(200)
+                .contentType("application/x-ndjson")
+                .extract()
+                .asString();
+
+        assertThat(body.lines()).hasSizeGreaterThanOrEqualTo(3).allMatch(line -> line.startsWith("{"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.testcontainers.catalog.api;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+
+import com.testcontainers.catalog.BaseIntegrationTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.jdbc.Sql;
+
+@Sql("/test-data.sql")
+class ProductBulkControllerTest extends BaseIntegrationTest {
+
+    @Test
+    void createProductsShouldInsertNewAndSkipExistingCodes() {
+        given().contentType(ContentType.JSON)
+                .body(
+                        """
+                        [
+                          {"code": "B101", "name": "Product B101", "price": 10.0},
+                          {"code": "P101", "name": "Renamed P101", "price": 12.0},
+                          {"code": "B102", "name": "", "price": 10.0}
+                        ]
+                        """)
+                .when()
+                .post("/api/products/bulk")
+                .then()
+                .statusCode(200)
+                .body("inserted", is(1))
+                .body("skipped", is(1))
+                .body("errors.size()", is(1))
+                .body("errors[0].index", is(2));
+
+        given().when().get("/api/products/P101").then().statusCode(200).body("name", is("Product P101"));
+        given().when().get("/api/products/B101").then().statusCode(200);
+    }
+
+    @Test
+    void createProductsShouldUpdateExistingCodesFromNdjson() {
+        given().contentType("application/x-ndjson")
+                .body(
+                        """
+                        {"code": "B201", "name": "Product B201", "price": 10.0}
+                        {"code": "P102", "name": "Renamed P102", "price": 12.0}
+                        """)
+                .when()
+                .post("/api/products/bulk?updateExisting=true")
+                .then()
+                .statusCode(200)
+                .body("inserted", is(1))
+                .body("updated", is(1))
+                .body("errors.size()", is(0));
+
+        given().when().get("/api/products/P102").then().statusCode(200).body("name", is("Renamed P102"));
+    }
+
+    @Test
+    void createProductsShouldSkipUnreadableNdjsonLines() {
+        given().contentType("application/x-ndjson")
+                .body(
+                        """
+                        {"code": "B301", "name": "Product B301", "price": 10.0}
+                        {"code": "B302", "name": "Product B302", "price": "ten"}
+                        {"code": "B303", "name": "Product B303"
+                        {"code": "B304", "name": "Product B304", "price": 10.0}
+                        """)
+                .when()
+                .post("/api/products/bulk")
+                .then()
+                .statusCode(200)
+                .body("inserted", is(2))
+                .body("errors.size()", is(2))
+                .body("errors[0].index", is(1))
+                .body("errors[1].index", is(2));
+
+        given().when().get("/api/products/B304").then().statusCode(200);
+    }
+
+    @Test
+    void createProductsShouldSkipJsonArrayItemsOfTheWrongType() {
+        given().contentType(ContentType.JSON)
+                .body(
+                        """
+                        [
+                          {"code": "B401", "name": "Product B401", "price": [10.0]},
+                          {"code": "B402", "name": "Product B402", "price": 10.0}
+                        ]
+                        """)
+                .when()
+                .post("/api/products/bulk")
+                .then()
+                .statusCode(200)
+                .body("inserted", is(1))
+                .body("errors.size()", is(1))
+                .body("errors[0].index", is(0));
+    }
+}
@@ -5,10 +5,13 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.testcontainers.catalog.BaseIntegrationTest;
 import com.testcontainers.catalog.domain.ProductService;
+import com.testcontainers.catalog.domain.models.CreateProductRequest;
 import com.testcontainers.catalog.domain.models.Product;
 import io.github.microcks.testcontainers.MicrocksContainer;
 import io.github.microcks.testcontainers.model.TestRequest;
@@ -20,6 +23,7 @@ import java.io.File;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
@@ -58,6 +62,38 @@ class ProductControllerTest extends BaseIntegrationTest {
                 .header("Location", endsWith("/api/products/%s".formatted(code)));
     }
 
+    @Test
+    void shouldAnswerConditionalGetWithNotModifiedUntilProductChanges() {
+        String code = UUID.randomUUID().toString();
+        productService.createProduct(new CreateProductRequest(code, "Product", null, new BigDecimal("10.0")));
+
+        String eTag = given().when()
+                .get("/api/products/{code}", code)
+                .then()
+                .statusCode(200)
+                .extract()
+                .header("ETag");
+
+        given().header("If-None-Match", eTag)
+                .when()
+                .get("/api/products/{code}", code)
+                .then()
+                .statusCode(304);
+
+        long version = productService.getProductByCode(code).orElseThrow().version();
+        // the price is only covered by the version trigger, not by the hash of availability and image URLs
+        productService.createProducts(
+                List.of(new CreateProductRequest(code, "Product", null, new BigDecimal("12.0"))), 0, true);
+        assertThat(productService.getProductByCode(code).orElseThrow().version()).isGreaterThan(version);
+
+        given().header("If-None-Match", eTag)
+                .when()
+                .get("/api/products/{code}", code)
+                .then()
+                .statusCode(200)
+                .header("ETag", not(equalTo(eTag)));
+    }
+
     @Test
     void shouldUploadProductImageSuccessfully() throws IOException {
         String code = "P101";
@@ -80,9 +116,149 @@ class ProductControllerTest extends BaseIntegrationTest {
             Optional<Product> optionalProduct = productService.getProductByCode(code);
             assertThat(optionalProduct).isPresent();
             assertThat(optionalProduct.get().imageUrl()).isNotEmpty();
+            assertThat(optionalProduct.get().imageVariants()).containsOnlyKeys("160", "640");
         });
     }
 
+    @Test
+    void shouldStreamRawProductImageSuccessfully() throws IOException {
+        String code = "P102";
+        byte[] image = new ClassPathResource("P101.jpg").getContentAsByteArray();
+
+        given().contentType("image/jpeg")
+                .body(image)
+                .when()
+                .put("/api/products/{code}/image", code)
+                .then()
+                .statusCode(200)
+                .body("status", endsWith("success"))
+                .body("filename", endsWith("P102.jpg"));
+
+        await().pollInterval(Duration.ofSeconds(3)).atMost(10, SECONDS).untilAsserted(() -> {
+            Optional<Product> optionalProduct = productService.getProductByCode(code);
+            assertThat(optionalProduct).isPresent();
+            assertThat(optionalProduct.get().imageUrl()).isNotEmpty();
+        });
+    }
+
+    @Test
+    void shouldIngestProductImageAsynchronously() throws IOException {
+        String code = "P103";
+        File file = new ClassPathResource("P101.jpg").getFile();
+
+        String jobLocation = given().multiPart("file", file, "multipart/form-data")
+                .contentType(ContentType.MULTIPART)
+                .header("Prefer", "respond-async")
+                .when()
+                .post("/api/products/{code}/image", code)
+                .then()
+                .statusCode(202)
+                .body("status", endsWith("QUEUED"))
+                .extract()
+                .header("Location");
+
+        await().pollInterval(Duration.ofSeconds(1)).atMost(10, SECONDS).untilAsserted(() -> given().when()
+                .get(jobLocation)
+                .then()
+                .statusCode(200)
+                .body("status", endsWith("SUCCEEDED"))
+                .body("filename", endsWith("P103.jpg")));
+    }
+
+    @Test
+    void shouldAcceptImageUploadWhenRespondAsyncIsOneOfSeveralPreferences() throws IOException {
+        File file = new ClassPathResource("P101.jpg").getFile();
+
+        given().multiPart("file", file, "multipart/form-data")
+                .contentType(ContentType.MULTIPART)
+                .header("Prefer", "wait=5, Respond-Async")
+                .when()
+                .post("/api/products/{code}/image", "P103")
+                .then()
+                .statusCode(202)
+                .body("status", endsWith("QUEUED"));
+    }
+
+    @Test
+    void shouldReturnErrorBodyForInvalidImageUrlWhenRespondingAsync() {
+        given().multiPart("imageUrl", "ftp://example.com/P101.jpg")
+                .contentType(ContentType.MULTIPART)
+                .header("Prefer", "respond-async")
+                .when()
+                .post("/api/products/{code}/image", "P103")
+                .then()
+                .statusCode(400)
+                .body("status", equalTo("error"))
+                .body("message", equalTo("Invalid imageUrl format"));
+    }
+
+    @Test
+    void shouldReplayImageUploadWithSameIdempotencyKey() throws IOException {
+        String idempotencyKey = UUID.randomUUID().toString();
+        File file = new ClassPathResource("P101.jpg").getFile();
+
+        String filename = given().multiPart("file", file, "multipart/form-data")
+                .contentType(ContentType.MULTIPART)
+                .header("Idempotency-Key", idempotencyKey)
+                .when()
+                .post("/api/products/{code}/image", "P103")
+                .then()
+                .statusCode(200)
+                .extract()
+                .path("filename");
+
+        given().multiPart("file", file, "multipart/form-data")
+                .contentType(ContentType.MULTIPART)
+                .header("Idempotency-Key", idempotencyKey)
+                .when()
+                .post("/api/products/{code}/image", "P103")
+                .then()
+                .statusCode(200)
+                .header("Idempotent-Replayed", "true")
+                .body("filename", equalTo(filename));
+
+        given().multiPart("file", file, "multipart/form-data")
+                .contentType(ContentType.MULTIPART)
+                .header("Idempotency-Key", idempotencyKey)
+                .when()
+                .post("/api/products/{code}/image", "P102")
+                .then()
+                .statusCode(422)
+                .body("status", endsWith("error"));
+    }
+
+    @Test
+    void shouldReplayAsynchronousImageUploadWithSameIdempotencyKey() throws IOException {
+        String idempotencyKey = UUID.randomUUID().toString();
+        File file = new ClassPathResource("P101.jpg").getFile();
+
+        String jobLocation = given().multiPart("file", file, "multipart/form-data")
+                .contentType(ContentType.MULTIPART)
+                .header("Prefer", "respond-async")
+                .header("Idempotency-Key", idempotencyKey)
+                .when()
+                .post("/api/products/{code}/image", "P103")
+                .then()
+                .statusCode(202)
+                .extract()
+                .header("Location");
+        await().pollInterval(Duration.ofSeconds(1)).atMost(10, SECONDS).untilAsserted(() -> given().when()
+                .get(jobLocation)
+                .then()
+                .body("status", endsWith("SUCCEEDED")));
+
+        given().multiPart("file", file, "multipart/form-data")
+                .contentType(ContentType.MULTIPART)
+                .header("Prefer", "respond-async")
+                .header("Idempotency-Key", idempotencyKey)
+                .when()
+                .post("/api/products/{code}/image", "P103")
+                .then()
+                .statusCode(200)
+                .header("Idempotent-Replayed", "true")
+                .body("filename", endsWith("P103.jpg"));
+    }
+
     @Test
     void shouldReturnBadRequestForInvalidImageUrl() throws IOException {
         String code = "P101";
@@ -0,0 +1,45 @@
+package com.testcontainers.catalog.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.testcontainers.catalog.domain.models.Product;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ProductETagsTest {
+
+    @Test
+    void eTagShouldNotChangeWhenImageUrlsAreSignedAgain() {
+        Product product = product("abc/P101.jpg", "signature=1", true);
+        Product resigned = product("abc/P101.jpg", "signature=2", true);
+
+        assertThat(ProductETags.of(resigned)).isEqualTo(ProductETags.of(product));
+        assertThat(ProductETags.ofList(7, List.of(resigned))).isEqualTo(ProductETags.ofList(7, List.of(product)));
+    }
+
+    @Test
+    void eTagShouldChangeWithStoredImageAndAvailability() {
+        Product product = product("abc/P101.jpg", "signature=1", true);
+
+        assertThat(ProductETags.of(product("def/P101.jpg", "signature=1", true)))
+                .isNotEqualTo(ProductETags.of(product));
+        assertThat(ProductETags.of(product("abc/P101.jpg", "signature=1", false)))
+                .isNotEqualTo(ProductETags.of(product));
+    }
+
+    private static Product product(String image, String signature, boolean available) {
+        return new Product(
+                1L,
+                "P101",
+                "Product P101",
+                null,
+                "http://localhost:4566/product-images/" + image + "?" + signature,
+                new BigDecimal("34.0"),
+                available,
+                Map.of("160", "http://localhost:4566/product-images/variants/160/" + image + "?" + signature),
+                image,
+                7);
+    }
+}
@@ -0,0 +1,79 @@
+package com.testcontainers.catalog.api;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import com.testcontainers.catalog.BaseIntegrationTest;
+import io.restassured.http.ContentType;
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.jdbc.Sql;
+
+@Sql("/test-data.sql")
+class ProductSearchControllerTest extends BaseIntegrationTest {
+
+    @Test
+    void shouldFindProductByTextInName() {
+        given().contentType(ContentType.JSON)
+                .when()
+                .get("/api/products/search?q=p102")
+                .then()
+                .statusCode(200)
+                .body("size()", is(1))
+                .body("[0].code", is("P102"));
+    }
+
+    @Test
+    void shouldPageThroughResultsWithNextLink() {
+        String link = given().contentType(ContentType.JSON)
+                .when()
+                .get("/api/products/search?q=product&limit=2")
+                .then()
+                .statusCode(200)
+                .body("code", hasItems("P101", "P102"))
+                .header("Link", containsString("rel=\"next\""))
+                .extract()
+                .header("Link");
+
+        URI next = URI.create(link.substring(link.indexOf('<') + 1, link.indexOf('>')));
+        given().contentType(ContentType.JSON)
+                .when()
+                .get(next)
+                .then()
+                .statusCode(200)
+                .body("size()", is(1))
+                .body("[0].code", is("P103"))
+                .header("Link", nullValue());
+    }
+
+    @Test
+    void shouldFilterByPriceAndAvailability() {
+        given().contentType(ContentType.JSON)
+                .when()
+                .get("/api/products/search?minPrice=20&maxPrice=30")
+                .then()
+                .statusCode(200)
+                .body("size()", is(1))
+                .body("[0].code", is("P102"));
+
+        given().contentType(ContentType.JSON)
+                .when()
+                .get("/api/products/search?q=product&available=false")
+                .then()
+                .statusCode(200)
+                .body("size()", is(1))
+                .body("[0].code", is("P103"));
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        given().contentType(ContentType.JSON)
+                .when()
+                .get("/api/products/search?q=product&after=not:a:cursor")
+                .then()
+                .statusCode(400);
+    }
+}
@@ -0,0 +1,34 @@
+package com.testcontainers.catalog.clients.images;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.jupiter.api.Test;
+
+class MaxSizeInputStreamTest {
+
+    @Test
+    void shouldReadContentUpToTheLimit() throws IOException {
+        InputStream inputStream = new MaxSizeInputStream(new ByteArrayInputStream(new byte[10]), 10);
+        assertThat(inputStream.readAllBytes()).hasSize(10);
+    }
+
+    @Test
+    void shouldRejectContentBeyondTheLimit() {
+        InputStream inputStream = new MaxSizeInputStream(new ByteArrayInputStream(new byte[11]), 10);
+        assertThatThrownBy(inputStream::readAllBytes)
+                .isInstanceOf(RemoteImageFetchException.class)
+                .hasMessageContaining("maximum size of 10 bytes");
+    }
+
+    @Test
+    void shouldCountSingleByteReads() throws IOException {
+        InputStream inputStream = new MaxSizeInputStream(new ByteArrayInputStream(new byte[] {1, 2, 3}), 2);
+        inputStream.read();
+        inputStream.read();
+        assertThatThrownBy(inputStream::read).isInstanceOf(RemoteImageFetchException.class);
+    }
+}
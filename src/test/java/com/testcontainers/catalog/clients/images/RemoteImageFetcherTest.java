@@ -0,0 +1,162 @@
+package com.testcontainers.catalog.clients.images;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+import com.sun.net.httpserver.HttpServer;
+import com.testcontainers.catalog.ApplicationProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class RemoteImageFetcherTest {
+    HttpServer server;
+    RemoteImageFetcher fetcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        // far beyond what a cold client needs, only the stalled body test relies on the deadline
+        fetcher = fetcher(Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fetcher.shutdown();
+        server.stop(0);
+    }
+
+    private static RemoteImageFetcher fetcher(Duration fetchTimeout) {
+        ApplicationProperties properties = mock(ApplicationProperties.class);
+        when(properties.remoteImages())
+                .thenReturn(new ApplicationProperties.RemoteImages(
+                        Duration.ofSeconds(5), Duration.ofSeconds(10), fetchTimeout, DataSize.ofBytes(16)));
+        return new RemoteImageFetcher(properties);
+    }
+
+    @Test
+    void fetchShouldPassBodyToHandler() {
+        serve("/image.jpg", 200, "image");
+
+        CompletableFuture<byte[]> result = fetcher.fetch(uri("/image.jpg"), RemoteImageFetcherTest::readAll);
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("image".getBytes());
+    }
+
+    @Test
+    void fetchShouldFailForNonSuccessfulStatus() {
+        serve("/missing.jpg", 404, "");
+
+        CompletableFuture<byte[]> result = fetcher.fetch(uri("/missing.jpg"), RemoteImageFetcherTest::readAll);
+
+        assertThat(result)
+                .failsWithin(Duration.ofSeconds(5))
+                .withThrowableThat()
+                .havingCause()
+                .isInstanceOf(RemoteImageFetchException.class)
+                .withMessageContaining("status 404");
+    }
+
+    @Test
+    void fetchShouldFailForBodyBeyondMaxSize() {
+        serve("/large.jpg", 200, "content larger than sixteen bytes");
+
+        CompletableFuture<byte[]> result = fetcher.fetch(uri("/large.jpg"), RemoteImageFetcherTest::readAll);
+
+        assertThat(result)
+                .failsWithin(Duration.ofSeconds(5))
+                .withThrowableThat()
+                .havingCause()
+                .isInstanceOf(RemoteImageFetchException.class)
+                .withMessageContaining("maximum size");
+    }
+
+    @Test
+    void fetchShouldTimeOutAndStopReadingStalledBody() throws InterruptedException {
+        CountDownLatch released = new CountDownLatch(1);
+        server.createContext("/stalled.jpg", exchange -> {
+            // headers arrive in time, the body never completes
+            exchange.sendResponseHeaders(200, 10);
+            exchange.getResponseBody().write(new byte[] {1});
+            exchange.getResponseBody().flush();
+            try {
+                released.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        serve("/image.jpg", 200, "image");
+        CountDownLatch handlerStarted = new CountDownLatch(1);
+        CountDownLatch handlerStopped = new CountDownLatch(1);
+        RemoteImageFetcher stallingFetcher = fetcher(Duration.ofSeconds(5));
+        try {
+            // a warm client gets the stalled response headers to the handler well before the deadline,
+            // on a loaded machine the first fetches of a cold client may not make it in time
+            await().atMost(Duration.ofSeconds(60)).until(() -> stallingFetcher
+                    .fetch(uri("/image.jpg"), RemoteImageFetcherTest::readAll)
+                    .handle((body, e) -> e == null)
+                    .join());
+
+            CompletableFuture<byte[]> result = stallingFetcher.fetch(uri("/stalled.jpg"), body -> {
+                handlerStarted.countDown();
+                try {
+                    return readAll(body);
+                } finally {
+                    handlerStopped.countDown();
+                }
+            });
+
+            assertThat(handlerStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(result)
+                    .failsWithin(Duration.ofSeconds(10))
+                    .withThrowableThat()
+                    .havingCause()
+                    .isInstanceOf(TimeoutException.class);
+            assertThat(handlerStopped.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            released.countDown();
+            stallingFetcher.shutdown();
+        }
+    }
+
+    private void serve(String path, int status, String body) {
+        server.createContext(path, exchange -> {
+            byte[] content = body.getBytes();
+            if (content.length == 0) {
+                exchange.sendResponseHeaders(status, -1);
+            } else {
+                exchange.sendResponseHeaders(status, content.length);
+                exchange.getResponseBody().write(content);
+            }
+            exchange.close();
+        });
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    private static byte[] readAll(InputStream body) {
+        try {
+            return body.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.testcontainers.catalog.clients.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class CachingInventoryServiceClientTest {
+    @Mock
+    InventoryServiceClient delegate;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    CachingInventoryServiceClient client;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ApplicationProperties.Inventory.Cache config = new ApplicationProperties.Inventory.Cache(
+                true, 100, Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofSeconds(5));
+        client = new CachingInventoryServiceClient(delegate, config, meterRegistry);
+    }
+
+    @Test
+    void getInventoryShouldBeServedFromCache() {
+        when(delegate.getInventory("P101")).thenReturn(new ProductInventory("P101", 25));
+
+        assertThat(client.getInventory("P101").quantity()).isEqualTo(25);
+        assertThat(client.getInventory("P101").quantity()).isEqualTo(25);
+
+        verify(delegate, times(1)).getInventory("P101");
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", "inventory")
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void getInventoryShouldCacheFailures() {
+        when(delegate.getInventory("P104")).thenThrow(new IllegalStateException("inventory service is down"));
+
+        assertThatThrownBy(() -> client.getInventory("P104")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> client.getInventory("P104")).isInstanceOf(IllegalStateException.class);
+
+        verify(delegate, times(1)).getInventory("P104");
+    }
+
+    @Test
+    void getInventoriesShouldOnlyLoadMissingCodes() {
+        when(delegate.getInventory("P101")).thenReturn(new ProductInventory("P101", 25));
+        when(delegate.getInventories(anyList())).thenReturn(List.of(new ProductInventory("P102", 5)));
+        client.getInventory("P101");
+
+        List<ProductInventory> inventories = client.getInventories(List.of("P101", "P102"));
+
+        assertThat(inventories).containsExactlyInAnyOrder(
+                new ProductInventory("P101", 25), new ProductInventory("P102", 5));
+        verify(delegate).getInventories(List.of("P102"));
+    }
+
+    @Test
+    void getInventoryShouldNotCacheRejectedCalls() {
+        when(delegate.getInventory("P104"))
+                .thenThrow(new InventoryUnavailableException("Inventory service circuit breaker is open", null))
+                .thenReturn(new ProductInventory("P104", 3));
+
+        assertThatThrownBy(() -> client.getInventory("P104")).isInstanceOf(InventoryUnavailableException.class);
+        assertThat(client.getInventory("P104").quantity()).isEqualTo(3);
+
+        verify(delegate, times(2)).getInventory("P104");
+    }
+
+    @Test
+    void getInventoriesShouldCacheCodesUnknownToTheInventoryService() {
+        when(delegate.getInventories(anyList())).thenReturn(List.of(new ProductInventory("P101", 25)));
+
+        assertThat(client.getInventories(List.of("P101", "P999"))).containsExactly(new ProductInventory("P101", 25));
+        assertThat(client.getInventories(List.of("P101", "P999"))).containsExactly(new ProductInventory("P101", 25));
+
+        verify(delegate, times(1)).getInventories(anyList());
+    }
+}
@@ -0,0 +1,69 @@
+package com.testcontainers.catalog.clients.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ResilientInventoryServiceClientTest {
+    @Mock
+    InventoryServiceClient delegate;
+
+    ResilientInventoryServiceClient client;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ApplicationProperties.Inventory config = new ApplicationProperties.Inventory(
+                50,
+                ApplicationProperties.Inventory.LookupMode.BATCH,
+                16,
+                Duration.ofSeconds(2),
+                null,
+                null,
+                new ApplicationProperties.Inventory.CircuitBreaker(
+                        true, 50, 50, Duration.ofMillis(500), 4, 4, Duration.ofMinutes(1), 1),
+                new ApplicationProperties.Inventory.Bulkhead(1, Duration.ZERO));
+        client = new ResilientInventoryServiceClient(delegate, config, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void openCircuitShouldFailFastWithoutCallingInventoryService() {
+        when(delegate.getInventory("P101")).thenThrow(new IllegalStateException("down"));
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.getInventory("P101")).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(client.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> client.getInventory("P101")).isInstanceOf(InventoryUnavailableException.class);
+        verify(delegate, times(4)).getInventory("P101");
+    }
+
+    @Test
+    void fullBulkheadShouldRejectConcurrentCalls() throws Exception {
+        CountDownLatch inCall = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getInventory("P101")).thenAnswer(invocation -> {
+            inCall.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new ProductInventory("P101", 1);
+        });
+        Thread caller = Thread.ofVirtual().start(() -> client.getInventory("P101"));
+        inCall.await(5, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> client.getInventory("P101")).isInstanceOf(InventoryUnavailableException.class);
+
+        release.countDown();
+        caller.join();
+    }
+}
@@ -0,0 +1,74 @@
+package com.testcontainers.catalog.domain.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.domain.models.ImageIngestionJob;
+import com.testcontainers.catalog.domain.models.ImageIngestionJob.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DefaultImageIngestionJobServiceTest {
+    DefaultImageIngestionJobService service;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties properties = mock(ApplicationProperties.class);
+        when(properties.imageIngestion())
+                .thenReturn(new ApplicationProperties.ImageIngestion(
+                        1, 10, Duration.ofMillis(200), Duration.ofMinutes(5), Duration.ofMinutes(1)));
+        ImageIngestionJobRepository jobRepository = mock(ImageIngestionJobRepository.class);
+        Map<String, ImageIngestionJobEntity> jobs = new ConcurrentHashMap<>();
+        when(jobRepository.save(any())).thenAnswer(invocation -> {
+            ImageIngestionJobEntity job = invocation.getArgument(0);
+            jobs.put(job.getId(), job);
+            return job;
+        });
+        when(jobRepository.findById(any()))
+                .thenAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.<String>getArgument(0))));
+        service = new DefaultImageIngestionJobService(properties, new SimpleMeterRegistry(), jobRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void submitShouldReportSucceededJob() {
+        ImageIngestionJob job = service.submit("P101", () -> "P101.jpg");
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(service.getJob("P101", job.id()))
+                .hasValueSatisfying(completed -> {
+                    assertThat(completed.status()).isEqualTo(Status.SUCCEEDED);
+                    assertThat(completed.filename()).isEqualTo("P101.jpg");
+                }));
+    }
+
+    @Test
+    void submitShouldOnlyReportFailedJobOnceTheIngestionStopped() {
+        AtomicBoolean stopped = new AtomicBoolean();
+        ImageIngestionJob job = service.submit("P101", () -> {
+            try {
+                Thread.sleep(10_000);
+                return "P101.jpg";
+            } finally {
+                Thread.sleep(100);
+                stopped.set(true);
+            }
+        });
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> service.getJob("P101", job.id()).orElseThrow().status() == Status.FAILED);
+        assertThat(stopped).isTrue();
+    }
+}
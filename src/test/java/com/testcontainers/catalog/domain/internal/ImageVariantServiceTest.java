@@ -0,0 +1,207 @@
+package com.testcontainers.catalog.domain.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.domain.FileStorageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ImageVariantServiceTest {
+    @Mock
+    FileStorageService fileStorageService;
+
+    @Mock
+    ImageVariantsRepository imageVariantsRepository;
+
+    @Mock
+    ApplicationProperties properties;
+
+    @TempDir
+    Path tempDir;
+
+    ImageVariantService service;
+
+    Map<String, byte[]> uploads = new ConcurrentHashMap<>();
+
+    Map<String, ImageVariantsEntity> records = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        doAnswer(invocation -> uploads.put(
+                        invocation.getArgument(0), invocation.<InputStream>getArgument(1).readAllBytes()))
+                .when(fileStorageService)
+                .upload(anyString(), any());
+        when(imageVariantsRepository.save(any())).thenAnswer(invocation -> {
+            ImageVariantsEntity record = invocation.getArgument(0);
+            records.put(record.getImage(), record);
+            return record;
+        });
+        when(imageVariantsRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<ImageVariantsEntity> found = new ArrayList<>();
+            invocation.<Iterable<String>>getArgument(0).forEach(image -> {
+                if (records.containsKey(image)) {
+                    found.add(records.get(image));
+                }
+            });
+            return found;
+        });
+        service = service(Duration.ofSeconds(10));
+    }
+
+    ImageVariantService service(Duration timeout) {
+        when(properties.imageVariants())
+                .thenReturn(new ApplicationProperties.ImageVariants(
+                        List.of(160, 640), 0.8f, 2, 10, timeout, 100, Duration.ofMinutes(10)));
+        return new ImageVariantService(
+                fileStorageService, imageVariantsRepository, properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void createVariantsShouldStoreResizedJpegForEveryWidth() throws Exception {
+        Path original = tempDir.resolve("P101.png");
+        ImageIO.write(new BufferedImage(1280, 960, BufferedImage.TYPE_INT_ARGB), "png", original.toFile());
+        storeOriginal("P101.png", original);
+
+        service.createVariants("P101.png");
+
+        assertThat(uploads).containsOnlyKeys("variants/160/P101.jpg", "variants/640/P101.jpg");
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(uploads.get("variants/160/P101.jpg")));
+        assertThat(thumbnail.getWidth()).isEqualTo(160);
+        assertThat(thumbnail.getHeight()).isEqualTo(120);
+    }
+
+    @Test
+    void createVariantsShouldNotUpscaleSmallImages() throws Exception {
+        Path original = tempDir.resolve("P102.jpg");
+        ImageIO.write(new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB), "jpg", original.toFile());
+        storeOriginal("P102.jpg", original);
+
+        service.createVariants("P102.jpg");
+
+        BufferedImage variant = ImageIO.read(new ByteArrayInputStream(uploads.get("variants/640/P102.jpg")));
+        assertThat(variant.getWidth()).isEqualTo(100);
+    }
+
+    @Test
+    void createVariantsShouldSkipImageThatCannotBeDecoded() throws Exception {
+        Path original = Files.write(tempDir.resolve("P103.jpg"), new byte[] {1, 2, 3});
+        storeOriginal("P103.jpg", original);
+
+        service.createVariants("P103.jpg");
+
+        assertThat(uploads).isEmpty();
+        assertThat(service.storedWidths(List.of("P103.jpg"))).containsEntry("P103.jpg", List.of());
+    }
+
+    @Test
+    void storedWidthsShouldOnlyAdvertiseVariantsThatWereStored() throws Exception {
+        Path original = tempDir.resolve("P104.png");
+        ImageIO.write(new BufferedImage(1280, 960, BufferedImage.TYPE_INT_ARGB), "png", original.toFile());
+        doThrow(new IllegalStateException("S3 unavailable"))
+                .when(fileStorageService)
+                .upload(eq("variants/640/P104.jpg"), any());
+        storeOriginal("P104.png", original);
+
+        service.createVariants("P104.png");
+
+        assertThat(service.storedWidths(List.of("P104.png"))).containsEntry("P104.png", List.of(160));
+        assertThat(records.get("P104.png").getWidths()).containsExactly(160);
+        verify(fileStorageService, never()).exists(anyString());
+    }
+
+    @Test
+    void storedWidthsShouldReadRecordedVariantsOnceForAllImages() {
+        records.put("P105.png", new ImageVariantsEntity("P105.png", List.of(160)));
+        records.put("P106.png", new ImageVariantsEntity("P106.png", List.of(160, 640)));
+
+        assertThat(service.storedWidths(List.of("P105.png", "P106.png")))
+                .containsEntry("P105.png", List.of(160))
+                .containsEntry("P106.png", List.of(160, 640));
+        assertThat(service.storedWidths(List.of("P105.png", "P106.png"))).hasSize(2);
+
+        verify(imageVariantsRepository, times(1)).findAllById(any());
+        verify(fileStorageService, never()).exists(anyString());
+    }
+
+    @Test
+    void storedWidthsShouldNotCacheImagesWithoutRecordedVariants() {
+        assertThat(service.storedWidths(List.of("P107.png"))).isEmpty();
+
+        records.put("P107.png", new ImageVariantsEntity("P107.png", List.of(160, 640)));
+
+        assertThat(service.storedWidths(List.of("P107.png"))).containsEntry("P107.png", List.of(160, 640));
+    }
+
+    @Test
+    void createVariantsShouldRecordWidthsOnlyOnceVariantsThatTimedOutHaveFinished() throws Exception {
+        ImageVariantService slowService = service(Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+                .when(fileStorageService)
+                .upload(eq("variants/640/P108.jpg"), any());
+        Path original = tempDir.resolve("P108.png");
+        ImageIO.write(new BufferedImage(1280, 960, BufferedImage.TYPE_INT_ARGB), "png", original.toFile());
+        storeOriginal("P108.png", original);
+        try {
+            slowService.createVariants("P108.png");
+
+            assertThat(records).doesNotContainKey("P108.png");
+            assertThat(slowService.storedWidths(List.of("P108.png"))).isEmpty();
+
+            release.countDown();
+            await().atMost(Duration.ofSeconds(5)).until(() -> records.containsKey("P108.png"));
+            assertThat(slowService.storedWidths(List.of("P108.png"))).containsEntry("P108.png", List.of(160, 640));
+        } finally {
+            slowService.shutdown();
+        }
+    }
+
+    @Test
+    void createVariantsShouldNotRecordWidthsWhenOriginalCannotBeRead() {
+        when(fileStorageService.download("P109.png")).thenThrow(new IllegalStateException("S3 unavailable"));
+
+        service.createVariants("P109.png");
+
+        assertThat(uploads).isEmpty();
+        assertThat(records).isEmpty();
+    }
+
+    @Test
+    void supportsVariantsShouldDependOnImageFormat() {
+        assertThat(ImageVariantService.supportsVariants("P101.PNG")).isTrue();
+        assertThat(ImageVariantService.supportsVariants("P101.jpeg")).isTrue();
+        assertThat(ImageVariantService.supportsVariants("P101.pdf")).isFalse();
+        assertThat(ImageVariantService.supportsVariants("P101")).isFalse();
+    }
+
+    private void storeOriginal(String imageName, Path original) {
+        when(fileStorageService.download(imageName)).thenAnswer(invocation -> Files.newInputStream(original));
+    }
+}
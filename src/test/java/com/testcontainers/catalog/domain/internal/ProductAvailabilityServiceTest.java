@@ -0,0 +1,161 @@
+package com.testcontainers.catalog.domain.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.ApplicationProperties.Inventory.LookupMode;
+import com.testcontainers.catalog.clients.inventory.InventoryServiceClient;
+import com.testcontainers.catalog.clients.inventory.ProductInventory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ProductAvailabilityServiceTest {
+    @Mock
+    InventoryServiceClient inventoryServiceClient;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    ProductAvailabilityService service;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        service = createService(LookupMode.BATCH);
+    }
+
+    private ProductAvailabilityService createService(LookupMode lookupMode) {
+        ApplicationProperties properties = new ApplicationProperties(
+                "bucket",
+                "topic",
+                "http://localhost:8081",
+                new ApplicationProperties.Inventory(
+                        2,
+                        lookupMode,
+                        2,
+                        Duration.ofMillis(300),
+                        null,
+                        new ApplicationProperties.Inventory.Cache(
+                                false, 100, Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofSeconds(5)),
+                        null,
+                        null),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null);
+        return new ProductAvailabilityService(inventoryServiceClient, properties, meterRegistry);
+    }
+
+    @Test
+    void getProductsAvailabilityShouldLookupInventoryInBatches() {
+        when(inventoryServiceClient.getInventories(List.of("P1", "P2")))
+                .thenReturn(List.of(new ProductInventory("P1", 5), new ProductInventory("P2", 0)));
+        when(inventoryServiceClient.getInventories(List.of("P3"))).thenReturn(List.of(new ProductInventory("P3", 1)));
+
+        Map<String, Boolean> availability = service.getProductsAvailability(List.of("P1", "P2", "P3"));
+
+        assertThat(availability).containsExactlyInAnyOrderEntriesOf(Map.of("P1", true, "P2", false, "P3", true));
+        verify(inventoryServiceClient, times(2)).getInventories(anyList());
+        verify(inventoryServiceClient, never()).getInventory(anyString());
+    }
+
+    @Test
+    void getProductsAvailabilityShouldAssumeAvailableWhenInventoryServiceFails() {
+        when(inventoryServiceClient.getInventories(anyList())).thenThrow(new RuntimeException("down"));
+
+        Map<String, Boolean> availability = service.getProductsAvailability(List.of("P1", "P2"));
+
+        assertThat(availability).containsExactlyInAnyOrderEntriesOf(Map.of("P1", true, "P2", true));
+        assertThat(meterRegistry
+                        .get("catalog.inventory.fallback")
+                        .tag("reason", "error")
+                        .counter()
+                        .count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void getProductsAvailabilityShouldLookupInventoryConcurrently() {
+        ProductAvailabilityService concurrentService = createService(LookupMode.CONCURRENT);
+        when(inventoryServiceClient.getInventory("P1")).thenReturn(new ProductInventory("P1", 5));
+        when(inventoryServiceClient.getInventory("P2")).thenReturn(new ProductInventory("P2", 0));
+        when(inventoryServiceClient.getInventory("P3")).thenAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return new ProductInventory("P3", 0);
+        });
+
+        Map<String, Boolean> availability = concurrentService.getProductsAvailability(List.of("P1", "P2", "P3"));
+
+        // P3 exceeds the per-call deadline and falls back to available
+        assertThat(availability).containsExactlyInAnyOrderEntriesOf(Map.of("P1", true, "P2", false, "P3", true));
+        verify(inventoryServiceClient, never()).getInventories(anyList());
+        concurrentService.shutdown();
+    }
+
+    @Test
+    void getProductsAvailabilityShouldCountPermitWaitAgainstTheDeadline() {
+        ProductAvailabilityService concurrentService = createService(LookupMode.CONCURRENT);
+        // two permits and 200 ms per lookup: the last two would finish 400 ms after submission, past their 300 ms
+        when(inventoryServiceClient.getInventory(anyString())).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return new ProductInventory(invocation.getArgument(0), 0);
+        });
+
+        Map<String, Boolean> availability = concurrentService.getProductsAvailability(List.of("P1", "P2", "P3", "P4"));
+
+        assertThat(availability.values()).containsExactlyInAnyOrder(false, false, true, true);
+        assertThat(meterRegistry
+                        .get("catalog.inventory.fallback")
+                        .tag("reason", "timeout")
+                        .counter()
+                        .count())
+                .isEqualTo(2);
+        concurrentService.shutdown();
+    }
+
+    @Test
+    void getProductsAvailabilityShouldKeepPermitUntilTimedOutLookupReturns() throws InterruptedException {
+        ProductAvailabilityService concurrentService = createService(LookupMode.CONCURRENT);
+        CountDownLatch release = new CountDownLatch(1);
+        when(inventoryServiceClient.getInventory(anyString())).thenAnswer(invocation -> {
+            release.await();
+            return new ProductInventory(invocation.getArgument(0), 0);
+        });
+
+        assertThat(concurrentService.getProductsAvailability(List.of("P1", "P2")))
+                .containsExactlyInAnyOrderEntriesOf(Map.of("P1", true, "P2", true));
+        // both permits are still held by the lookups that timed out
+        assertThat(concurrentService.getProductsAvailability(List.of("P3")))
+                .containsExactlyEntriesOf(Map.of("P3", true));
+        verify(inventoryServiceClient, never()).getInventory("P3");
+        assertThat(meterRegistry
+                        .get("catalog.inventory.fallback")
+                        .tag("reason", "saturated")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+
+        release.countDown();
+        await().atMost(1, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(concurrentService.getProductsAvailability(List.of("P3")))
+                        .containsExactlyEntriesOf(Map.of("P3", false)));
+        concurrentService.shutdown();
+    }
+}
@@ -0,0 +1,58 @@
+package com.testcontainers.catalog.domain.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProductCacheTest {
+    ProductCache productCache;
+
+    AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties properties = mock(ApplicationProperties.class);
+        when(properties.productCache())
+                .thenReturn(new ApplicationProperties.ProductCache(true, 100, Duration.ofMinutes(10), "invalidations"));
+        productCache = new ProductCache(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void getShouldLoadProductOnlyOnce() {
+        assertThat(productCache.get("P101", this::load)).isPresent();
+        assertThat(productCache.get("P101", this::load)).isPresent();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void getShouldNotCacheMissingProducts() {
+        assertThat(productCache.get("MISSING", code -> {
+                    loads.incrementAndGet();
+                    return Optional.empty();
+                }))
+                .isEmpty();
+        assertThat(productCache.get("MISSING", this::load)).isPresent();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evictShouldForceReload() {
+        productCache.get("P101", this::load);
+        productCache.evict("P101");
+        productCache.get("P101", this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    private Optional<ProductView> load(String code) {
+        loads.incrementAndGet();
+        return Optional.of(new ProductView(1L, code, "Product " + code, null, null, new BigDecimal("10.0"), 1L));
+    }
+}
@@ -0,0 +1,106 @@
+package com.testcontainers.catalog.domain.internal;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.domain.models.ProductImageUploadedEvent;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ProductEventOutboxRelayTest {
+    @Mock
+    ProductEventOutboxRepository outboxRepository;
+
+    @Mock
+    ProductEventPublisher productEventPublisher;
+
+    @Mock
+    ApplicationProperties properties;
+
+    ProductEventOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(properties.outbox())
+                .thenReturn(new ApplicationProperties.Outbox(true, 10, Duration.ofSeconds(1), Duration.ofSeconds(30)));
+        when(properties.events()).thenReturn(new ApplicationProperties.Events(false, Duration.ofSeconds(1)));
+        relay = new ProductEventOutboxRelay(outboxRepository, productEventPublisher, properties);
+    }
+
+    @Test
+    void relayShouldPublishAndDeleteOutboxEntries() {
+        List<ProductEventOutboxEntity> batch = List.of(new ProductEventOutboxEntity("P101", "P101.jpg"));
+        when(outboxRepository.leaseNextBatch(10, 30)).thenReturn(batch).thenReturn(List.of());
+        when(productEventPublisher.send(new ProductImageUploadedEvent("P101", "P101.jpg")))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        relay.relay();
+
+        verify(outboxRepository).deleteAllInBatch(batch);
+    }
+
+    @Test
+    void relayShouldKeepOutboxEntriesWhenPublishingFails() {
+        List<ProductEventOutboxEntity> batch = List.of(entry(1L, "P101", "P101.jpg"));
+        when(outboxRepository.leaseNextBatch(10, 30)).thenReturn(batch);
+        when(productEventPublisher.send(any())).thenReturn(CompletableFuture.failedFuture(new IllegalStateException()));
+
+        assertThatThrownBy(() -> relay.relay()).isInstanceOf(ProductEventPublishException.class);
+
+        verify(outboxRepository, never()).deleteAllInBatch(any());
+        verify(outboxRepository).releaseLeases(List.of(1L));
+    }
+
+    @Test
+    void relayShouldDeleteAcknowledgedAndReleaseFailedEntries() {
+        List<ProductEventOutboxEntity> batch = List.of(
+                entry(1L, "P101", "P101.jpg"), entry(2L, "P102", "P102.jpg"), entry(3L, "P103", "P103.jpg"));
+        when(outboxRepository.leaseNextBatch(10, 30)).thenReturn(batch);
+        when(productEventPublisher.send(any()))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException()))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        assertThatThrownBy(() -> relay.relay()).isInstanceOf(ProductEventPublishException.class);
+
+        verify(outboxRepository).deleteAllInBatch(List.of(batch.get(0), batch.get(2)));
+        verify(outboxRepository).releaseLeases(List.of(2L));
+        verify(outboxRepository, times(1)).leaseNextBatch(anyInt(), anyLong());
+    }
+
+    @Test
+    void relayShouldKeepLeasingUntilOutboxIsEmpty() {
+        List<ProductEventOutboxEntity> first = List.of(entry(1L, "P101", "P101.png"));
+        List<ProductEventOutboxEntity> second = List.of(entry(2L, "P101", "P101.jpg"));
+        when(outboxRepository.leaseNextBatch(10, 30))
+                .thenReturn(first)
+                .thenReturn(second)
+                .thenReturn(List.of());
+        when(productEventPublisher.send(any()))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        relay.relay();
+
+        InOrder inOrder = inOrder(productEventPublisher, outboxRepository);
+        inOrder.verify(productEventPublisher).send(new ProductImageUploadedEvent("P101", "P101.png"));
+        inOrder.verify(outboxRepository).deleteAllInBatch(first);
+        inOrder.verify(productEventPublisher).send(new ProductImageUploadedEvent("P101", "P101.jpg"));
+        inOrder.verify(outboxRepository).deleteAllInBatch(second);
+    }
+
+    private static ProductEventOutboxEntity entry(long id, String code, String image) {
+        ProductEventOutboxEntity entry = new ProductEventOutboxEntity(code, image);
+        ReflectionTestUtils.setField(entry, "id", id);
+        return entry;
+    }
+}
@@ -0,0 +1,69 @@
+package com.testcontainers.catalog.domain.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.domain.models.ProductImageUploadedEvent;
+import com.testcontainers.catalog.metrics.DependencyMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+class ProductEventPublisherTest {
+    @Mock
+    KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    ApplicationProperties properties;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    ProductEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(properties.productImageUpdatesTopic()).thenReturn("topic");
+        when(properties.events()).thenReturn(new ApplicationProperties.Events(true, Duration.ofSeconds(1)));
+        publisher = new ProductEventPublisher(
+                kafkaTemplate, properties, meterRegistry, new DependencyMetrics(meterRegistry));
+    }
+
+    @Test
+    void publishShouldTrackAcknowledgedSends() {
+        ProductImageUploadedEvent event = new ProductImageUploadedEvent("P101", "P101.jpg");
+        when(kafkaTemplate.send("topic", "P101", event))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        publisher.publish(event);
+
+        assertThat(counter("acknowledged")).isEqualTo(1);
+        assertThat(meterRegistry.get("catalog.events.publish.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void publishShouldFailWhenAcknowledgementIsAwaitedAndSendFails() {
+        ProductImageUploadedEvent event = new ProductImageUploadedEvent("P101", "P101.jpg");
+        when(kafkaTemplate.send("topic", "P101", event))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        assertThatThrownBy(() -> publisher.publish(event)).isInstanceOf(ProductEventPublishException.class);
+        assertThat(counter("failed")).isEqualTo(1);
+    }
+
+    private double counter(String outcome) {
+        return meterRegistry
+                .get("catalog.events.publish")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+}
@@ -3,31 +3,72 @@ package com.testcontainers.catalog.domain.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import com.testcontainers.catalog.ApplicationProperties;
 import com.testcontainers.catalog.domain.FileStorageService;
+import com.testcontainers.catalog.domain.internal.ProductBatchRepository.UpsertedProduct;
+import com.testcontainers.catalog.domain.internal.ProductSearchRepository.ProductSearchHit;
+import com.testcontainers.catalog.domain.models.BulkProductResult;
 import com.testcontainers.catalog.domain.models.CreateProductRequest;
 import com.testcontainers.catalog.domain.models.Product;
+import com.testcontainers.catalog.domain.models.ProductCacheInvalidatedEvent;
+import com.testcontainers.catalog.domain.models.ProductSearchCriteria;
+import com.testcontainers.catalog.domain.models.ProductSearchCursor;
+import com.testcontainers.catalog.domain.models.ProductSearchPage;
+import jakarta.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
 class ProductServiceTest {
+    static final byte[] CONTENT = "abc".getBytes(StandardCharsets.UTF_8);
+    static final String CONTENT_HASH = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
     @Mock
     ProductRepository productRepository;
 
+    @Mock
+    ProductCache productCache;
+
+    @Mock
+    ProductAvailabilityService productAvailabilityService;
+
     @Mock
     FileStorageService fileStorageService;
 
+    @Mock
+    ProductEventPublisher productEventPublisher;
+
+    @Mock
+    ProductEventOutboxRepository outboxRepository;
+
+    @Mock
+    ApplicationProperties properties;
+
+    @Mock
+    Validator validator;
+
     @InjectMocks
     DefaultProductService productService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(productCache.get(anyString(), any())).thenAnswer(invocation -> invocation
+                .<Function<String, Optional<ProductView>>>getArgument(1)
+                .apply(invocation.getArgument(0)));
     }
 
     @Test
@@ -59,9 +100,115 @@ class ProductServiceTest {
 
     @Test
     void getAllProductsShouldReturnList() {
-        ProductEntity entity = new ProductEntity();
-        entity.setCode("C5");
-        when(productRepository.findAll()).thenReturn(Collections.singletonList(entity));
+        ProductView product = new ProductView(5L, "C5", "Name", "Desc", null, new BigDecimal("10.0"), 1L);
+        when(productRepository.findAllViews()).thenReturn(Collections.singletonList(product));
+        when(productAvailabilityService.getProductsAvailability(List.of("C5"))).thenReturn(Map.of("C5", true));
         assertThat(productService.getAllProducts()).hasSize(1);
     }
+
+    @Test
+    void getProductsShouldReturnPageAfterId() {
+        ProductView product = new ProductView(7L, "C7", "Name", "Desc", null, new BigDecimal("10.0"), 1L);
+        when(productRepository.findViewsAfterId(5L, Limit.of(10))).thenReturn(List.of(product));
+        when(productAvailabilityService.getProductsAvailability(List.of("C7"))).thenReturn(Map.of("C7", false));
+
+        assertThat(productService.getProducts(5L, 10))
+                .singleElement()
+                .satisfies(found -> assertThat(found.available()).isFalse());
+    }
+
+    @Test
+    void searchProductsShouldQueryFurtherUntilPageIsFilledWithAvailableProducts() {
+        when(properties.search()).thenReturn(new ApplicationProperties.Search(5000));
+        ProductSearchCriteria criteria = new ProductSearchCriteria("shirt", null, null, true);
+        ProductSearchHit first = searchHit(1L, "S1", 0.5f);
+        ProductSearchHit second = searchHit(2L, "S2", 0.4f);
+        ProductSearchHit third = searchHit(3L, "S3", 0.3f);
+        when(productRepository.searchProducts(criteria, null, 2)).thenReturn(List.of(first, second));
+        when(productRepository.searchProducts(criteria, second.cursor(), 2)).thenReturn(List.of(third));
+        when(productAvailabilityService.getProductsAvailability(List.of("S1", "S2")))
+                .thenReturn(Map.of("S1", false, "S2", true));
+        when(productAvailabilityService.getProductsAvailability(List.of("S3"))).thenReturn(Map.of("S3", true));
+
+        ProductSearchPage page = productService.searchProducts(criteria, null, 2);
+
+        assertThat(page.products()).extracting(Product::code).containsExactly("S2", "S3");
+        assertThat(page.next()).isNull();
+    }
+
+    private static ProductSearchHit searchHit(long id, String code, float rank) {
+        return new ProductSearchHit(
+                new ProductView(id, code, code, null, null, BigDecimal.ONE, id), new ProductSearchCursor(rank, id));
+    }
+
+    @Test
+    void updateProductImageShouldEvictCachedProduct() {
+        productService.updateProductImage("C8", "C8.jpg");
+        verify(productRepository).updateProductImage("C8", "C8.jpg");
+        verify(productCache).evict("C8");
+        verify(productEventPublisher).publishCacheInvalidation(new ProductCacheInvalidatedEvent(List.of("C8")));
+    }
+
+    @Test
+    void createProductsShouldUpsertLastOccurrenceOfDuplicateCodes() {
+        CreateProductRequest first = new CreateProductRequest("B1", "First", null, BigDecimal.ONE);
+        CreateProductRequest second = new CreateProductRequest("B2", "Second", null, BigDecimal.ONE);
+        CreateProductRequest duplicate = new CreateProductRequest("B1", "Duplicate", null, BigDecimal.TEN);
+        when(productRepository.upsertProducts(anyCollection(), eq(false)))
+                .thenReturn(List.of(new UpsertedProduct("B1", true)));
+
+        BulkProductResult result = productService.createProducts(List.of(first, second, duplicate), 100, false);
+
+        verify(productRepository).upsertProducts(argThat(products -> products.size() == 2
+                && products.contains(duplicate)
+                && products.contains(second)), eq(false));
+        verify(productCache).evict("B1");
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.updated()).isZero();
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(result.errors())
+                .singleElement()
+                .satisfies(error -> assertThat(error.index()).isEqualTo(100));
+    }
+
+    @Test
+    void uploadProductImageShouldStoreContentUnderItsHash() {
+        when(properties.outbox()).thenReturn(new ApplicationProperties.Outbox(true, 100, null, null));
+        when(productRepository.findByCode("C9")).thenReturn(Optional.empty());
+        consumeUploads();
+
+        String image = productService.uploadProductImage("C9", "C9.pdf", new ByteArrayInputStream(CONTENT));
+
+        assertThat(image).isEqualTo(CONTENT_HASH + "/C9.pdf");
+        ArgumentCaptor<String> staged = ArgumentCaptor.captor();
+        verify(fileStorageService).upload(staged.capture(), any());
+        assertThat(staged.getValue()).startsWith("staging/").endsWith("/C9.pdf");
+        verify(fileStorageService).copy(staged.getValue(), image);
+        verify(fileStorageService).delete(staged.getValue());
+        verify(outboxRepository).save(any(ProductEventOutboxEntity.class));
+    }
+
+    @Test
+    void uploadProductImageShouldSkipContentAlreadyStoredForProduct() {
+        ProductEntity entity = new ProductEntity();
+        entity.setCode("C10");
+        entity.setImage(CONTENT_HASH + "/C10.pdf");
+        when(productRepository.findByCode("C10")).thenReturn(Optional.of(entity));
+        when(fileStorageService.exists(CONTENT_HASH + "/C10.pdf")).thenReturn(true);
+        consumeUploads();
+
+        String image = productService.uploadProductImage("C10", "C10.pdf", new ByteArrayInputStream(CONTENT));
+
+        assertThat(image).isEqualTo(CONTENT_HASH + "/C10.pdf");
+        verify(fileStorageService, never()).copy(anyString(), anyString());
+        verify(fileStorageService).delete(argThat(name -> name.startsWith("staging/")));
+        verifyNoInteractions(outboxRepository);
+    }
+
+    // the content is hashed while the storage reads it
+    private void consumeUploads() {
+        doAnswer(invocation -> invocation.<InputStream>getArgument(1).readAllBytes())
+                .when(fileStorageService)
+                .upload(anyString(), any());
+    }
 }
@@ -1,46 +1,219 @@
 package com.testcontainers.catalog.domain.internal;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.*;
 
 import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.metrics.DependencyMetrics;
+import io.awspring.cloud.s3.PropertiesS3ObjectContentTypeResolver;
 import io.awspring.cloud.s3.S3Template;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 class S3FileStorageServiceTest {
+    static final int PART_SIZE = MultipartS3OutputStreamProvider.MIN_PART_SIZE;
+
     @Mock
     S3Template s3Template;
 
+    @Mock
+    S3Client s3Client;
+
     @Mock
     ApplicationProperties properties;
 
-    @InjectMocks
     S3FileStorageService service;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         when(properties.productImagesBucketName()).thenReturn("bucket");
+        when(properties.storage())
+                .thenReturn(new ApplicationProperties.Storage(
+                        Duration.ofMinutes(60),
+                        Duration.ofMinutes(15),
+                        Duration.ofMinutes(5),
+                        100,
+                        DataSize.ofMegabytes(8),
+                        DataSize.ofMegabytes(50)));
+        service = new S3FileStorageService(
+                s3Template,
+                s3Client,
+                new MultipartS3OutputStreamProvider(s3Client, new PropertiesS3ObjectContentTypeResolver(), PART_SIZE),
+                properties,
+                new DependencyMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
-    void uploadShouldCallS3Template() {
-        ByteArrayInputStream inputStream = new ByteArrayInputStream(new byte[] {1, 2, 3});
-        service.upload("file.jpg", inputStream);
-        verify(s3Template).upload("bucket", "file.jpg", inputStream, null);
+    void uploadShouldPutContentSmallerThanOnePart() {
+        service.upload("file.jpg", new ByteArrayInputStream(new byte[] {1, 2, 3}));
+
+        ArgumentCaptor<Consumer<PutObjectRequest.Builder>> put = ArgumentCaptor.captor();
+        verify(s3Client).putObject(put.capture(), any(RequestBody.class));
+        PutObjectRequest.Builder request = PutObjectRequest.builder();
+        put.getValue().accept(request);
+        assertThat(request.build().contentType()).isEqualTo("image/jpeg");
+        assertThat(request.build().contentLength()).isEqualTo(3);
+    }
+
+    @Test
+    void uploadShouldStoreContentInNumberedPartsWithContentType() {
+        when(s3Client.createMultipartUpload(ArgumentMatchers.<Consumer<CreateMultipartUploadRequest.Builder>>any()))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenAnswer(invocation -> UploadPartResponse.builder()
+                        .eTag("etag-" + invocation.<UploadPartRequest>getArgument(0).partNumber())
+                        .build());
+
+        service.upload("file.jpg", new ByteArrayInputStream(new byte[2 * PART_SIZE + 10]));
+
+        ArgumentCaptor<Consumer<CreateMultipartUploadRequest.Builder>> create = ArgumentCaptor.captor();
+        verify(s3Client).createMultipartUpload(create.capture());
+        CreateMultipartUploadRequest.Builder createRequest = CreateMultipartUploadRequest.builder();
+        create.getValue().accept(createRequest);
+        assertThat(createRequest.build().contentType()).isEqualTo("image/jpeg");
+
+        ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(3)).uploadPart(parts.capture(), any(RequestBody.class));
+        assertThat(parts.getAllValues())
+                .extracting(
+                        UploadPartRequest::partNumber, UploadPartRequest::contentLength, UploadPartRequest::uploadId)
+                .containsExactly(
+                        tuple(1, (long) PART_SIZE, "upload-1"),
+                        tuple(2, (long) PART_SIZE, "upload-1"),
+                        tuple(3, 10L, "upload-1"));
+
+        ArgumentCaptor<Consumer<CompleteMultipartUploadRequest.Builder>> complete = ArgumentCaptor.captor();
+        verify(s3Client).completeMultipartUpload(complete.capture());
+        CompleteMultipartUploadRequest.Builder completeRequest = CompleteMultipartUploadRequest.builder();
+        complete.getValue().accept(completeRequest);
+        assertThat(completeRequest.build().multipartUpload().parts())
+                .extracting(CompletedPart::partNumber, CompletedPart::eTag)
+                .containsExactly(tuple(1, "etag-1"), tuple(2, "etag-2"), tuple(3, "etag-3"));
+        verify(s3Client, never())
+                .putObject(ArgumentMatchers.<Consumer<PutObjectRequest.Builder>>any(), any(RequestBody.class));
+        verify(s3Client, never())
+                .abortMultipartUpload(ArgumentMatchers.<Consumer<AbortMultipartUploadRequest.Builder>>any());
     }
 
     @Test
     void uploadShouldThrowS3FileStorageExceptionOnError() {
         ByteArrayInputStream inputStream = new ByteArrayInputStream(new byte[] {1, 2, 3});
-        doThrow(new RuntimeException("fail")).when(s3Template).upload(anyString(), anyString(), any(), any());
+        when(s3Client.putObject(ArgumentMatchers.<Consumer<PutObjectRequest.Builder>>any(), any(RequestBody.class)))
+                .thenThrow(new RuntimeException("fail"));
         assertThatThrownBy(() -> service.upload("file.jpg", inputStream))
                 .isInstanceOf(S3FileStorageException.class)
                 .hasMessageContaining("Failed to upload file");
     }
+
+    @Test
+    void uploadShouldNotStoreObjectWhenInputFailsBeforeFirstPart() {
+        assertThatThrownBy(() -> service.upload("file.jpg", failingAfter(10)))
+                .isInstanceOf(S3FileStorageException.class);
+
+        verify(s3Client, never())
+                .putObject(ArgumentMatchers.<Consumer<PutObjectRequest.Builder>>any(), any(RequestBody.class));
+    }
+
+    @Test
+    void uploadShouldAbortMultipartUploadWhenInputFailsMidStream() {
+        when(s3Client.createMultipartUpload(ArgumentMatchers.<Consumer<CreateMultipartUploadRequest.Builder>>any()))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("etag-1").build());
+
+        assertThatThrownBy(() -> service.upload("file.jpg", failingAfter(PART_SIZE + 10)))
+                .isInstanceOf(S3FileStorageException.class);
+
+        verify(s3Client).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        verify(s3Client).abortMultipartUpload(ArgumentMatchers.<Consumer<AbortMultipartUploadRequest.Builder>>any());
+        verify(s3Client, never())
+                .completeMultipartUpload(ArgumentMatchers.<Consumer<CompleteMultipartUploadRequest.Builder>>any());
+        verify(s3Client, never())
+                .putObject(ArgumentMatchers.<Consumer<PutObjectRequest.Builder>>any(), any(RequestBody.class));
+    }
+
+    @Test
+    void providerShouldRejectPartsSmallerThanS3Allows() {
+        assertThatThrownBy(() -> new MultipartS3OutputStreamProvider(
+                        s3Client, new PropertiesS3ObjectContentTypeResolver(), PART_SIZE - 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static InputStream failingAfter(int bytes) {
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+        return new SequenceInputStream(new ByteArrayInputStream(new byte[bytes]), failing);
+    }
+
+    @Test
+    void getPreSignedURLShouldReuseSignedUrl() throws Exception {
+        when(s3Template.createSignedGetURL("bucket", "file.jpg", Duration.ofMinutes(60)))
+                .thenReturn(URI.create("https://bucket.s3.amazonaws.com/file.jpg?X-Amz-Signature=abc").toURL());
+
+        String first = service.getPreSignedURL("file.jpg");
+        String second = service.getPreSignedURL("file.jpg");
+
+        assertThat(second).isEqualTo(first);
+        verify(s3Template, times(1)).createSignedGetURL("bucket", "file.jpg", Duration.ofMinutes(60));
+    }
+
+    @Test
+    void existsShouldReturnFalseForMissingObject() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(NoSuchKeyException.builder().build());
+        assertThat(service.exists("missing.jpg")).isFalse();
+    }
+
+    @Test
+    void existsShouldReturnTrueForStoredObject() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder().build());
+        assertThat(service.exists("file.jpg")).isTrue();
+        verify(s3Client).headObject(HeadObjectRequest.builder().bucket("bucket").key("file.jpg").build());
+    }
+
+    @Test
+    void copyShouldCopyObjectWithinBucket() {
+        service.copy("staging/1/file.jpg", "hash/file.jpg");
+
+        verify(s3Client)
+                .copyObject(CopyObjectRequest.builder()
+                        .sourceBucket("bucket")
+                        .sourceKey("staging/1/file.jpg")
+                        .destinationBucket("bucket")
+                        .destinationKey("hash/file.jpg")
+                        .build());
+    }
 }
@@ -0,0 +1,89 @@
+package com.testcontainers.catalog.events;
+
+import static io.restassured.RestAssured.given;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import com.testcontainers.catalog.BaseIntegrationTest;
+import com.testcontainers.catalog.domain.ProductService;
+import com.testcontainers.catalog.domain.models.CreateProductRequest;
+import com.testcontainers.catalog.domain.models.Product;
+import com.testcontainers.catalog.domain.models.ProductCacheInvalidatedEvent;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "application.product-cache.enabled=true")
+class ProductCacheInvalidationTest extends BaseIntegrationTest {
+
+    @Autowired
+    ProductService productService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Autowired
+    KafkaListenerEndpointRegistry registry;
+
+    @Autowired
+    ApplicationProperties properties;
+
+    String code;
+
+    @BeforeEach
+    void setUp() {
+        // the cache evictor only reads invalidations published after it joined
+        registry.getListenerContainers().forEach(container -> ContainerTestUtils.waitForAssignment(container, 1));
+        code = UUID.randomUUID().toString();
+        productService.createProduct(new CreateProductRequest(code, "Product", null, new BigDecimal("10.0")));
+    }
+
+    @Test
+    void shouldServeUploadedImageOnceTheUpdateCommits() throws IOException {
+        File file = new ClassPathResource("P101.jpg").getFile();
+        assertThat(productService.getProductByCode(code)).map(Product::imageUrl).isEmpty();
+
+        given().multiPart("file", file, "multipart/form-data")
+                .when()
+                .post("/api/products/{code}/image", code)
+                .then()
+                .statusCode(200);
+
+        await().atMost(10, SECONDS)
+                .untilAsserted(() -> assertThat(productService.getProductByCode(code))
+                        .map(Product::imageUrl)
+                        .isNotEmpty());
+    }
+
+    @Test
+    void shouldEvictProductChangedByAnotherInstance() throws Exception {
+        assertThat(productService.getProductByCode(code)).map(Product::name).hasValue("Product");
+        // another instance commits the change, this instance only learns about it from the invalidation
+        jdbcTemplate.update("update products set name = 'Renamed' where code = ?", code);
+        assertThat(productService.getProductByCode(code)).map(Product::name).hasValue("Product");
+
+        kafkaTemplate
+                .send(properties.productCache().invalidationsTopic(), new ProductCacheInvalidatedEvent(List.of(code)))
+                .get(10, SECONDS);
+
+        await().atMost(10, SECONDS)
+                .untilAsserted(() ->
+                        assertThat(productService.getProductByCode(code)).map(Product::name).hasValue("Renamed"));
+    }
+}
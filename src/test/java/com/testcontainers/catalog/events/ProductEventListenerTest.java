@@ -0,0 +1,37 @@
+package com.testcontainers.catalog.events;
+
+import static org.mockito.Mockito.*;
+
+import com.testcontainers.catalog.domain.ProductService;
+import com.testcontainers.catalog.domain.models.ProductImageUploadedEvent;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ProductEventListenerTest {
+    @Mock
+    ProductService productService;
+
+    @InjectMocks
+    ProductEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void handleShouldApplyLastImagePerProductInOneUpdate() {
+        listener.handle(List.of(
+                new ProductImageUploadedEvent("P101", "P101.png"),
+                new ProductImageUploadedEvent("P102", "P102.jpg"),
+                new ProductImageUploadedEvent("P101", "P101.jpg")));
+
+        verify(productService).updateProductImages(Map.of("P101", "P101.jpg", "P102", "P102.jpg"));
+        verify(productService, never()).updateProductImage(anyString(), anyString());
+    }
+}
@@ -0,0 +1,59 @@
+package com.testcontainers.catalog.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.testcontainers.catalog.BaseIntegrationTest;
+import com.testcontainers.catalog.domain.ProductService;
+import com.testcontainers.catalog.domain.models.BulkProductResult;
+import com.testcontainers.catalog.domain.models.CreateProductRequest;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@Sql("/test-data.sql")
+class ProductIdAllocationTest extends BaseIntegrationTest {
+
+    @Autowired
+    ProductService productService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrationShouldMakeProductIdSequenceIncrementInBlocks() {
+        Long increment = jdbcTemplate.queryForObject(
+                "select increment_by from pg_sequences where sequencename = 'products_id_seq'", Long.class);
+
+        assertThat(increment).isEqualTo(50);
+    }
+
+    @Test
+    void jpaAndBulkInsertsShouldShareThePooledSequenceWithoutOverlappingIds() {
+        String prefix = "ID-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        productService.createProduct(product(prefix + "JPA-1"));
+        List<CreateProductRequest> bulk =
+                IntStream.range(0, 120).mapToObj(i -> product(prefix + "BULK-" + i)).toList();
+
+        BulkProductResult result = productService.createProducts(bulk, 0, false);
+        productService.createProduct(product(prefix + "JPA-2"));
+
+        assertThat(result.inserted()).isEqualTo(120);
+        // 120 rows take three consecutive blocks of the sequence, not one block per row
+        List<Long> bulkIds = jdbcTemplate.queryForList(
+                "select id from products where code like ? order by id", Long.class, prefix + "BULK-%");
+        assertThat(bulkIds).hasSize(120);
+        assertThat(bulkIds.getLast() - bulkIds.getFirst()).isEqualTo(119);
+        List<Long> jpaIds = jdbcTemplate.queryForList(
+                "select id from products where code like ? order by id", Long.class, prefix + "JPA-%");
+        assertThat(jpaIds).hasSize(2).doesNotContainAnyElementsOf(bulkIds);
+    }
+
+    private static CreateProductRequest product(String code) {
+        return new CreateProductRequest(code, "Product " + code, null, new BigDecimal("10.0"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.testcontainers.catalog.integration;
+
+import static io.restassured.RestAssured.given;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.notNullValue;
+
+import com.testcontainers.catalog.BaseIntegrationTest;
+import com.testcontainers.catalog.clients.inventory.InventoryServiceClient;
+import com.testcontainers.catalog.domain.FileStorageService;
+import io.restassured.http.ContentType;
+import java.util.UUID;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@Import(TransactionBoundaryTest.TransactionGuardConfig.class)
+@TestPropertySource(
+        properties =
+                "spring.kafka.producer.properties.interceptor.classes=com.testcontainers.catalog.integration.TransactionGuard")
+@Sql("/test-data.sql")
+class TransactionBoundaryTest extends BaseIntegrationTest {
+
+    @BeforeEach
+    void setUp() {
+        TransactionGuard.reset();
+    }
+
+    @Test
+    void remoteCallsShouldNotRunInsideDatabaseTransactions() {
+        String code = "TX-" + UUID.randomUUID();
+        given().contentType(ContentType.JSON)
+                .body("""
+                        {"code": "%s", "name": "Product %s", "price": 10.0}
+                        """.formatted(code, code))
+                .when()
+                .post("/api/products")
+                .then()
+                .statusCode(201);
+
+        given().contentType("image/png")
+                .body(new byte[] {1, 2, 3})
+                .when()
+                .put("/api/products/{code}/image", code)
+                .then()
+                .statusCode(200);
+
+        // S3 upload, outbox relay to Kafka and the listener updating the product
+        await().pollInterval(1, SECONDS).atMost(30, SECONDS).untilAsserted(() -> given().when()
+                .get("/api/products/{code}", code)
+                .then()
+                .statusCode(200)
+                .body("imageUrl", notNullValue()));
+        given().when().get("/api/products/P101").then().statusCode(200);
+        given().when().get("/api/data").then().statusCode(200);
+
+        assertThat(TransactionGuard.violations()).isEmpty();
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class TransactionGuardConfig {
+
+        @Bean
+        static BeanPostProcessor transactionGuardPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof FileStorageService || bean instanceof InventoryServiceClient) {
+                        ProxyFactory proxyFactory = new ProxyFactory(bean);
+                        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                            TransactionGuard.check(
+                                    beanName + "." + invocation.getMethod().getName());
+                            return invocation.proceed();
+                        });
+                        return proxyFactory.getProxy();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
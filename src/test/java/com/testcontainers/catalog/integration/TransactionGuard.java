@@ -0,0 +1,44 @@
+package com.testcontainers.catalog.integration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.kafka.clients.producer.ProducerInterceptor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// records remote calls made while the calling thread has an open database transaction,
+// also registered as a Kafka producer interceptor because onSend runs on the sending thread
+public class TransactionGuard implements ProducerInterceptor<Object, Object> {
+    private static final List<String> violations = new CopyOnWriteArrayList<>();
+
+    static void check(String call) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            violations.add(call + " on " + Thread.currentThread().getName());
+        }
+    }
+
+    static List<String> violations() {
+        return List.copyOf(violations);
+    }
+
+    static void reset() {
+        violations.clear();
+    }
+
+    @Override
+    public ProducerRecord<Object, Object> onSend(ProducerRecord<Object, Object> record) {
+        check("kafka.send(" + record.topic() + ")");
+        return record;
+    }
+
+    @Override
+    public void onAcknowledgement(RecordMetadata metadata, Exception exception) {}
+
+    @Override
+    public void close() {}
+
+    @Override
+    public void configure(Map<String, ?> configs) {}
+}
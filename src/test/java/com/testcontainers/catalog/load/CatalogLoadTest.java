@@ -0,0 +1,196 @@
+package com.testcontainers.catalog.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testcontainers.catalog.BaseIntegrationTest;
+import com.testcontainers.catalog.load.LoadRecorder.LoadReport;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+// mixed traffic against the Testcontainers stack, excluded from the default build:
+// ./mvnw -Pload-test test -Dload.duration=60s -Dload.users=64 writes target/load-test-report.json
+@Tag("load")
+class CatalogLoadTest extends BaseIntegrationTest {
+    private static final int SEEDED_PRODUCTS = 1000;
+    private static final Duration PROPAGATION_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Duration duration = DurationStyle.detectAndParse(System.getProperty("load.duration", "30s"));
+    private final int users = Integer.getInteger("load.users", 32);
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final LoadRecorder recorder = new LoadRecorder();
+    private final Queue<String> productsWithoutImage = new ConcurrentLinkedQueue<>();
+    private final AtomicLong uploads = new AtomicLong();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void mixedTraffic() throws Exception {
+        seedProducts();
+
+        Instant startedAt = Instant.now();
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService propagationChecks = Executors.newVirtualThreadPerTaskExecutor()) {
+            try (ExecutorService userThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < users; i++) {
+                    userThreads.submit(() -> {
+                        while (System.nanoTime() < deadline) {
+                            runScenario(propagationChecks);
+                        }
+                    });
+                }
+            }
+            propagationChecks.shutdown();
+            propagationChecks.awaitTermination(PROPAGATION_TIMEOUT.toSeconds() + 5, TimeUnit.SECONDS);
+        }
+        LoadReport report = recorder.report(startedAt, Duration.between(startedAt, Instant.now()), users);
+
+        Path reportFile = Path.of("target", "load-test-report.json");
+        Files.createDirectories(reportFile.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+
+        assertThat(report.totalRequests()).isPositive();
+        assertThat((double) report.totalErrors() / report.totalRequests()).isLessThanOrEqualTo(maxErrorRate);
+    }
+
+    private void seedProducts() throws IOException, InterruptedException {
+        String body = IntStream.range(0, SEEDED_PRODUCTS)
+                .mapToObj(i -> """
+                        {"code": "L%d", "name": "Load product %d", "description": "seeded", "price": %d}"""
+                        .formatted(i, i, 10 + i % 90))
+                .collect(Collectors.joining("\n"));
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/products/bulk?updateExisting=true"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(BodyPublishers.ofString(body))
+                .build());
+        assertThat(response.statusCode()).isEqualTo(200);
+    }
+
+    // weights: 50% product reads, 20% listing, 15% creates, 15% image uploads
+    private void runScenario(ExecutorService propagationChecks) {
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        if (roll < 50) {
+            timed("get-product", () -> send(get("/api/products/L" + randomSeededProduct())));
+        } else if (roll < 70) {
+            timed("list-data", () -> send(get("/api/data?limit=100")));
+        } else if (roll < 85) {
+            String code = "N" + UUID.randomUUID();
+            boolean created = timed("create-product", () -> send(HttpRequest.newBuilder(uri("/api/products"))
+                    .header("Content-Type", "application/json")
+                    .POST(BodyPublishers.ofString("""
+                            {"code": "%s", "name": "Load product", "price": 10.0}"""
+                            .formatted(code)))
+                    .build()));
+            if (created) {
+                productsWithoutImage.add(code);
+            }
+        } else {
+            String code = productsWithoutImage.poll();
+            boolean checkPropagation = code != null && uploads.incrementAndGet() % 5 == 0;
+            String target = code != null ? code : "L" + randomSeededProduct();
+            byte[] image = new byte[8 * 1024];
+            ThreadLocalRandom.current().nextBytes(image);
+            long uploadedAt = System.nanoTime();
+            boolean uploaded = timed("upload-image", () -> send(HttpRequest.newBuilder(
+                            uri("/api/products/" + target + "/image"))
+                    .header("Content-Type", "image/png")
+                    .PUT(BodyPublishers.ofByteArray(image))
+                    .build()));
+            if (uploaded && checkPropagation) {
+                propagationChecks.submit(() -> awaitImagePropagation(target, uploadedAt));
+            }
+        }
+    }
+
+    // time from the upload until the Kafka listener has stored the image on the product
+    private void awaitImagePropagation(String code, long uploadedAt) {
+        long timeout = uploadedAt + PROPAGATION_TIMEOUT.toNanos();
+        try {
+            while (System.nanoTime() < timeout) {
+                HttpResponse<String> response = send(get("/api/products/" + code));
+                JsonNode imageUrl = objectMapper.readTree(response.body()).get("imageUrl");
+                if (imageUrl != null && !imageUrl.isNull()) {
+                    recorder.record("event-propagation", System.nanoTime() - uploadedAt, true);
+                    return;
+                }
+                Thread.sleep(100);
+            }
+        } catch (IOException e) {
+            // recorded as a failed propagation below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        recorder.record("event-propagation", System.nanoTime() - uploadedAt, false);
+    }
+
+    private boolean timed(String scenario, Request request) {
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            int status = request.send().statusCode();
+            success = status >= 200 && status < 300;
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            success = false;
+        }
+        recorder.record(scenario, System.nanoTime() - start, success);
+        return success;
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, BodyHandlers.ofString());
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static int randomSeededProduct() {
+        return ThreadLocalRandom.current().nextInt(SEEDED_PRODUCTS);
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        HttpResponse<String> send() throws IOException, InterruptedException;
+    }
+}
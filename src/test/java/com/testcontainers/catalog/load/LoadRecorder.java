@@ -0,0 +1,91 @@
+package com.testcontainers.catalog.load;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+class LoadRecorder {
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    void record(String scenario, long durationNanos, boolean success) {
+        timer(scenario).record(durationNanos, TimeUnit.NANOSECONDS);
+        if (!success) {
+            Counter.builder("load.errors")
+                    .tag("scenario", scenario)
+                    .register(registry)
+                    .increment();
+        }
+    }
+
+    LoadReport report(Instant startedAt, Duration elapsed, int users) {
+        Map<String, ScenarioReport> scenarios = new TreeMap<>();
+        registry.find("load.latency").timers().forEach(timer -> {
+            String scenario = timer.getId().getTag("scenario");
+            Counter errors =
+                    registry.find("load.errors").tag("scenario", scenario).counter();
+            scenarios.put(scenario, ScenarioReport.of(timer, errors == null ? 0 : (long) errors.count(), elapsed));
+        });
+        return new LoadReport(startedAt.toString(), elapsed.toMillis() / 1000.0, users, scenarios);
+    }
+
+    private Timer timer(String scenario) {
+        // a single bucket that outlives the run, so percentiles cover every request
+        return Timer.builder("load.latency")
+                .tag("scenario", scenario)
+                .publishPercentiles(PERCENTILES)
+                .percentilePrecision(2)
+                .distributionStatisticBufferLength(1)
+                .distributionStatisticExpiry(Duration.ofDays(1))
+                .register(registry);
+    }
+
+    record LoadReport(String startedAt, double durationSeconds, int users, Map<String, ScenarioReport> scenarios) {
+
+        long totalRequests() {
+            return scenarios.values().stream().mapToLong(ScenarioReport::requests).sum();
+        }
+
+        long totalErrors() {
+            return scenarios.values().stream().mapToLong(ScenarioReport::errors).sum();
+        }
+    }
+
+    record ScenarioReport(
+            long requests,
+            long errors,
+            double errorRate,
+            double throughputPerSecond,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis) {
+
+        static ScenarioReport of(Timer timer, long errors, Duration elapsed) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            long requests = snapshot.count();
+            Map<Double, Double> percentiles = new TreeMap<>();
+            for (ValueAtPercentile value : snapshot.percentileValues()) {
+                percentiles.put(value.percentile(), value.value(TimeUnit.MILLISECONDS));
+            }
+            return new ScenarioReport(
+                    requests,
+                    errors,
+                    requests == 0 ? 0 : (double) errors / requests,
+                    requests / (elapsed.toMillis() / 1000.0),
+                    percentiles.getOrDefault(0.5, 0.0),
+                    percentiles.getOrDefault(0.99, 0.0),
+                    percentiles.getOrDefault(0.999, 0.0),
+                    snapshot.max(TimeUnit.MILLISECONDS));
+        }
+    }
+}
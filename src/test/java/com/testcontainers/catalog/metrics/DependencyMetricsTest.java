@@ -0,0 +1,54 @@
+package com.testcontainers.catalog.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DependencyMetricsTest {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    DependencyMetrics dependencyMetrics = new DependencyMetrics(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.clear();
+    }
+
+    @Test
+    void recordShouldTagOutcome() {
+        dependencyMetrics.record("inventory", "getInventory", () -> "ok");
+        assertThatThrownBy(() -> dependencyMetrics.record("inventory", "getInventory", () -> {
+                    throw new IllegalStateException("down");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry
+                        .get("catalog.dependency")
+                        .tags("dependency", "inventory", "outcome", "success")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("catalog.dependency")
+                        .tags("dependency", "inventory", "outcome", "error")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void recordShouldAddToCurrentRequestIncludingPropagatedWork() throws Exception {
+        RequestTimings timings = RequestTimings.start();
+
+        dependencyMetrics.record("s3", "upload", () -> {});
+        Supplier<Integer> lookup =
+                RequestTimings.propagate(() -> dependencyMetrics.record("inventory", "getInventory", () -> 1));
+        Thread worker = Thread.ofVirtual().start(lookup::get);
+        worker.join();
+
+        assertThat(timings.snapshot()).containsOnlyKeys("inventory", "s3");
+    }
+}
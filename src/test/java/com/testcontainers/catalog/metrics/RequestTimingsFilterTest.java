@@ -0,0 +1,57 @@
+package com.testcontainers.catalog.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.testcontainers.catalog.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+class RequestTimingsFilterTest {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.clear();
+    }
+
+    @Test
+    void asyncRequestShouldBeRecordedOnceItCompletes() throws Exception {
+        ApplicationProperties properties = mock(ApplicationProperties.class);
+        when(properties.metrics()).thenReturn(new ApplicationProperties.Metrics(Duration.ofSeconds(1)));
+        RequestTimingsFilter filter = new RequestTimingsFilter(meterRegistry, properties);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/data/stream");
+        request.setAsyncSupported(true);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/data/stream");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertThat(meterRegistry.find("catalog.request.dependency").timer()).isNull();
+
+        // the body is written after the servlet thread returned, as Spring MVC does for a StreamingResponseBody
+        CallableProcessingInterceptor interceptor = RequestTimingsFilter.asyncTimingsInterceptor();
+        ServletWebRequest webRequest = new ServletWebRequest(request);
+        Callable<Void> task = () -> null;
+        interceptor.preProcess(webRequest, task);
+        RequestTimings.addToCurrent("postgres", Duration.ofMillis(5).toNanos());
+        interceptor.postProcess(webRequest, task, null);
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        assertThat(meterRegistry
+                        .get("catalog.request.dependency")
+                        .tags("uri", "/api/data/stream", "dependency", "postgres")
+                        .timer()
+                        .totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(5);
+    }
+}